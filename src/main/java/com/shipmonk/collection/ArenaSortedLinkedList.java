@@ -0,0 +1,545 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A sorted linked list whose nodes live in parallel arrays instead of separate objects.
+ * <p>
+ * Every element occupies one slot of an arena: its value is stored in a value array and
+ * its links are stored as {@code int} slot indices in a {@code next} and a {@code prev}
+ * array. There is no per-element node object, so a list of n elements costs three arrays
+ * instead of n node objects with their headers and link references. The values themselves
+ * are still heap objects: the value array references n boxed {@code Integer} or
+ * {@code String} instances, which the garbage collector continues to trace. Slots freed
+ * by removals are kept on a free-list threaded through the {@code next} array and are
+ * reused by later inserts.
+ * </p>
+ * <p>
+ * The list behaves like {@link SortedLinkedList} in its default {@link SearchMode#LINEAR}
+ * mode: the same ordering, duplicate placement and fail-fast iteration.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <ul>
+ *   <li>add(T)/remove(T)/contains(T)/indexOf(T)/rankOf(T): O(n), O(1) at either end for add</li>
+ *   <li>get(int)/removeAt(int): O(n) - optimized to traverse from nearest end</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class ArenaSortedLinkedList<T extends Comparable<T>> implements SortedList<T> {
+
+    /**
+     * Default number of slots allocated by the factory methods.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * Slot index standing for "no slot", used as the null link.
+     */
+    private static final int NIL = -1;
+
+    private Object[] values;
+    private int[] next;
+    private int[] prev;
+    private int head;
+    private int tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Number of slots that have ever been handed out; slots at or above it are untouched.
+     */
+    private int used;
+
+    /**
+     * First slot of the free-list, or {@link #NIL} if no freed slot is available.
+     */
+    private int freeHead;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     * This ensures only String or Integer types can be used.
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     */
+    private ArenaSortedLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        this.values = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.modCount = 0;
+        this.used = 0;
+        this.freeHead = NIL;
+    }
+
+    /**
+     * Creates a new empty arena-backed sorted linked list for String values.
+     *
+     * @return a new empty ArenaSortedLinkedList for Strings
+     */
+    public static ArenaSortedLinkedList<String> ofStrings() {
+        return new ArenaSortedLinkedList<>(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty arena-backed sorted linked list for String values.
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @return a new empty ArenaSortedLinkedList for Strings
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static ArenaSortedLinkedList<String> ofStrings(int initialCapacity) {
+        return new ArenaSortedLinkedList<>(initialCapacity);
+    }
+
+    /**
+     * Creates a new empty arena-backed sorted linked list for Integer values.
+     *
+     * @return a new empty ArenaSortedLinkedList for Integers
+     */
+    public static ArenaSortedLinkedList<Integer> ofIntegers() {
+        return new ArenaSortedLinkedList<>(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty arena-backed sorted linked list for Integer values.
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @return a new empty ArenaSortedLinkedList for Integers
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static ArenaSortedLinkedList<Integer> ofIntegers(int initialCapacity) {
+        return new ArenaSortedLinkedList<>(initialCapacity);
+    }
+
+    @Override
+    public void add(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int slot = allocate(value);
+        modCount++;
+
+        if (head == NIL || value.compareTo(valueAt(head)) < 0) {
+            // Insert at head
+            linkAfter(NIL, slot);
+        } else if (value.compareTo(valueAt(tail)) >= 0) {
+            // Insert at tail
+            linkAfter(tail, slot);
+        } else {
+            // Insert in the middle - find the correct position
+            int current = head;
+            while (valueAt(current).compareTo(value) <= 0) {
+                current = next[current];
+            }
+            linkAfter(prev[current], slot);
+        }
+        size++;
+    }
+
+    /**
+     * Internal helper method to take a slot from the free-list, or a fresh one, and store a value in it.
+     *
+     * @param value the value to store
+     * @return the slot index
+     */
+    private int allocate(T value) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == values.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        values[slot] = value;
+        return slot;
+    }
+
+    /**
+     * Grows the arena by half of its current capacity.
+     */
+    private void grow() {
+        int capacity = Math.max(DEFAULT_INITIAL_CAPACITY, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    /**
+     * Internal helper method to link a slot into the chain.
+     *
+     * @param after the slot after which to link, or {@link #NIL} to link at the head
+     * @param slot  the slot to link
+     */
+    private void linkAfter(int after, int slot) {
+        int following = after == NIL ? head : next[after];
+        prev[slot] = after;
+        next[slot] = following;
+
+        if (after == NIL) {
+            head = slot;
+        } else {
+            next[after] = slot;
+        }
+
+        if (following == NIL) {
+            tail = slot;
+        } else {
+            prev[following] = slot;
+        }
+    }
+
+    @Override
+    public boolean remove(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int slot = lowerBound(value);
+        if (slot == NIL || valueAt(slot).compareTo(value) != 0) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    @Override
+    public int removeAll(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int removedCount = 0;
+        int current = lowerBound(value);
+        while (current != NIL && valueAt(current).compareTo(value) == 0) {
+            int following = next[current];
+            removeSlot(current);
+            removedCount++;
+            current = following;
+        }
+        return removedCount;
+    }
+
+    @Override
+    public T removeAt(int index) {
+        checkIndex(index);
+        int slot = slotAt(index);
+        T value = valueAt(slot);
+        removeSlot(slot);
+        return value;
+    }
+
+    /**
+     * Internal helper method to unlink a slot and return it to the free-list.
+     *
+     * @param slot the slot to remove
+     */
+    private void removeSlot(int slot) {
+        modCount++;
+
+        if (prev[slot] != NIL) {
+            next[prev[slot]] = next[slot];
+        } else {
+            head = next[slot];
+        }
+
+        if (next[slot] != NIL) {
+            prev[next[slot]] = prev[slot];
+        } else {
+            tail = prev[slot];
+        }
+
+        values[slot] = null;
+        prev[slot] = NIL;
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int slot = lowerBound(value);
+        return slot != NIL && valueAt(slot).compareTo(value) == 0;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return valueAt(slotAt(index));
+    }
+
+    /**
+     * Returns the slot at the specified index, traversing from the nearest end.
+     *
+     * @param index the index of the slot to return
+     * @return the slot at the specified index
+     */
+    private int slotAt(int index) {
+        int current;
+        if (index < size / 2) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = next[current];
+            }
+        } else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = prev[current];
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int index = 0;
+        for (int current = head; current != NIL; current = next[current]) {
+            int cmp = valueAt(current).compareTo(value);
+            if (cmp == 0) {
+                return index;
+            } else if (cmp > 0) {
+                return -1;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int rankOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int rank = 0;
+        for (int current = head; current != NIL && valueAt(current).compareTo(value) <= 0; current = next[current]) {
+            rank++;
+        }
+        return rank;
+    }
+
+    @Override
+    public int count(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int occurrences = 0;
+        for (int current = lowerBound(value);
+             current != NIL && valueAt(current).compareTo(value) == 0;
+             current = next[current]) {
+            occurrences++;
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first slot whose value is not less than the value.
+     *
+     * @param value the value being searched for
+     * @return the slot, or {@link #NIL} if every value is less than the value
+     */
+    private int lowerBound(T value) {
+        int current = head;
+        while (current != NIL && valueAt(current).compareTo(value) < 0) {
+            current = next[current];
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valueAt(int slot) {
+        return (T) values[slot];
+    }
+
+    @Override
+    public Optional<T> first() {
+        return head == NIL ? Optional.empty() : Optional.of(valueAt(head));
+    }
+
+    @Override
+    public Optional<T> last() {
+        return tail == NIL ? Optional.empty() : Optional.of(valueAt(tail));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     * <p>
+     * The arena keeps its capacity; all slots become available again.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        freeHead = NIL;
+        modCount++;
+    }
+
+    @Override
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(size);
+        for (int current = head; current != NIL; current = next[current]) {
+            result.add(valueAt(current));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * The iterator will throw {@link ConcurrentModificationException}
+     * if the list is modified after the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArenaIterator();
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int current = head; current != NIL; current = next[current]) {
+            sb.append(values[current]);
+            if (next[current] != NIL) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ArenaSortedLinkedList<?> other)) {
+            return false;
+        }
+        if (this.size != other.size) {
+            return false;
+        }
+
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> otherIterator = other.iterator();
+
+        while (thisIterator.hasNext()) {
+            if (!thisIterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Fail-fast iterator implementation for ArenaSortedLinkedList.
+     */
+    private class ArenaIterator implements Iterator<T> {
+
+        private int current;
+        private int lastReturned;
+        private int expectedModCount;
+
+        ArenaIterator() {
+            this.current = head;
+            this.lastReturned = NIL;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != NIL;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = current;
+            current = ArenaSortedLinkedList.this.next[current];
+            return valueAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NIL) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            removeSlot(lastReturned);
+            lastReturned = NIL;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lock-free, thread-safe sorted linked list that maintains elements in ascending natural order.
+ * <p>
+ * This is the concurrent sibling of {@link SortedLinkedList}. It is based on the
+ * Harris/Michael algorithm: every node's next pointer carries a mark bit, a removal
+ * first marks the node (logical deletion) and then unlinks it with a CAS (physical
+ * deletion), and traversals help unlink marked nodes they encounter. No thread ever
+ * blocks another, so producers scale with the number of cores instead of serializing
+ * on a monitor.
+ * </p>
+ * <p>
+ * Like {@link SortedLinkedList}, instances can only be created through
+ * {@link #ofStrings()} and {@link #ofIntegers()}, duplicates are placed after existing
+ * equal elements, and null values are rejected.
+ * </p>
+ *
+ * <h2>Consistency</h2>
+ * <ul>
+ *   <li>add(T), remove(T) and contains(T) are linearizable</li>
+ *   <li>Iterators and streams are weakly consistent: they never throw
+ *       {@link java.util.ConcurrentModificationException}, return elements in sorted
+ *       order, and reflect some but not necessarily all concurrent modifications</li>
+ *   <li>count(T), removeAll(T), first(), last(), size() and clear() are not atomic
+ *       with respect to concurrent modifications</li>
+ * </ul>
+ * <p>
+ * The list is singly linked, so it offers no positional access; all operations
+ * are O(n).
+ * </p>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedLinkedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class ConcurrentSortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    private final ConcurrentNode<T> head;
+    private final AtomicInteger size;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     * This ensures only String or Integer types can be used.
+     */
+    private ConcurrentSortedLinkedList() {
+        this.head = new ConcurrentNode<>(null, null);
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Creates a new empty concurrent sorted linked list for String values.
+     *
+     * @return a new empty ConcurrentSortedLinkedList for Strings
+     */
+    public static ConcurrentSortedLinkedList<String> ofStrings() {
+        return new ConcurrentSortedLinkedList<>();
+    }
+
+    /**
+     * Creates a new empty concurrent sorted linked list for Integer values.
+     *
+     * @return a new empty ConcurrentSortedLinkedList for Integers
+     */
+    public static ConcurrentSortedLinkedList<Integer> ofIntegers() {
+        return new ConcurrentSortedLinkedList<>();
+    }
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * <p>
+     * Duplicates are allowed and will be placed after existing equal elements.
+     * </p>
+     *
+     * @param value the value to add (must not be null)
+     * @throws NullPointerException if the value is null
+     */
+    public void add(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        ConcurrentNode<T> node = new ConcurrentNode<>(value, null);
+        while (true) {
+            Window<T> window = find(value, true);
+            node.next.set(window.current, false);
+            if (window.predecessor.next.compareAndSet(window.current, node, false, false)) {
+                size.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    public boolean remove(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        while (true) {
+            Window<T> window = find(value, false);
+            ConcurrentNode<T> current = window.current;
+            if (current == null || current.value.compareTo(value) != 0) {
+                return false;
+            }
+            if (markAndUnlink(window.predecessor, current)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     * <p>
+     * Each occurrence is removed atomically, but the operation as a whole is not atomic.
+     * </p>
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the value is null
+     */
+    public int removeAll(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int removedCount = 0;
+        while (remove(value)) {
+            removedCount++;
+        }
+        return removedCount;
+    }
+
+    /**
+     * Removes and returns the first (smallest) element of the list.
+     *
+     * @return an Optional containing the removed element, or empty if the list is empty
+     */
+    public Optional<T> pollFirst() {
+        while (true) {
+            ConcurrentNode<T> first = firstNode();
+            if (first == null) {
+                return Optional.empty();
+            }
+            if (markAndUnlink(head, first)) {
+                return Optional.of(first.value);
+            }
+        }
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     * <p>
+     * This method is wait-free: it never retries and never modifies the list.
+     * </p>
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    public boolean contains(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        boolean[] marked = {false};
+        ConcurrentNode<T> current = head.next.getReference();
+        while (current != null) {
+            int cmp = current.value.compareTo(value);
+            ConcurrentNode<T> next = current.next.get(marked);
+            if (cmp == 0 && !marked[0]) {
+                return true;
+            } else if (cmp > 0) {
+                return false;
+            }
+            current = next;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the number of occurrences of the specified value.
+     *
+     * @param value the value to count
+     * @return the number of occurrences seen during the traversal
+     * @throws NullPointerException if the value is null
+     */
+    public int count(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        boolean[] marked = {false};
+        int occurrences = 0;
+        ConcurrentNode<T> current = head.next.getReference();
+        while (current != null) {
+            int cmp = current.value.compareTo(value);
+            ConcurrentNode<T> next = current.next.get(marked);
+            if (cmp == 0 && !marked[0]) {
+                occurrences++;
+            } else if (cmp > 0) {
+                break;
+            }
+            current = next;
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first (smallest) element in the list.
+     *
+     * @return an Optional containing the first element, or empty if the list is empty
+     */
+    public Optional<T> first() {
+        ConcurrentNode<T> first = firstNode();
+        return first == null ? Optional.empty() : Optional.of(first.value);
+    }
+
+    /**
+     * Returns the last (largest) element in the list.
+     * <p>
+     * This requires a full traversal of the list.
+     * </p>
+     *
+     * @return an Optional containing the last element, or empty if the list is empty
+     */
+    public Optional<T> last() {
+        T last = null;
+        for (T value : this) {
+            last = value;
+        }
+        return Optional.ofNullable(last);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * <p>
+     * The count is maintained atomically, but under concurrent modification it may
+     * momentarily lag behind the elements visible to a traversal.
+     * </p>
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list contains no elements
+     */
+    public boolean isEmpty() {
+        return firstNode() == null;
+    }
+
+    /**
+     * Removes all elements from the list.
+     * <p>
+     * Elements are removed one by one from the head, so elements added concurrently
+     * may or may not survive.
+     * </p>
+     */
+    public void clear() {
+        while (pollFirst().isPresent()) {
+            // Keep removing until the list is observed empty
+        }
+    }
+
+    /**
+     * Returns a snapshot of the list contents as an ArrayList.
+     *
+     * @return a new ArrayList containing the elements in sorted order
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>();
+        for (T value : this) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sequential, weakly consistent Stream with this list as its source.
+     *
+     * @return a Stream over the elements in this list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(),
+                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL | Spliterator.CONCURRENT),
+                false
+        );
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this list.
+     * <p>
+     * The iterator never throws {@link java.util.ConcurrentModificationException}.
+     * Its {@code remove()} removes exactly the element last returned, unless another
+     * thread has already removed it.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new WeaklyConsistentIterator();
+    }
+
+    /**
+     * Returns the first two adjacent unmarked nodes around the value, unlinking
+     * marked nodes on the way.
+     * <p>
+     * The predecessor is the last node less than (or, if {@code inclusive}, less
+     * than or equal to) the value, possibly the head sentinel. The current node is
+     * its successor, or null at the end of the list.
+     * </p>
+     */
+    private Window<T> find(T value, boolean inclusive) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            ConcurrentNode<T> predecessor = head;
+            ConcurrentNode<T> current = predecessor.next.getReference();
+            while (true) {
+                if (current == null) {
+                    return new Window<>(predecessor, null);
+                }
+                ConcurrentNode<T> successor = current.next.get(marked);
+                while (marked[0]) {
+                    // Help a concurrent removal by physically unlinking the marked node
+                    if (!predecessor.next.compareAndSet(current, successor, false, false)) {
+                        continue retry;
+                    }
+                    current = successor;
+                    if (current == null) {
+                        return new Window<>(predecessor, null);
+                    }
+                    successor = current.next.get(marked);
+                }
+                int cmp = current.value.compareTo(value);
+                if (inclusive ? cmp > 0 : cmp >= 0) {
+                    return new Window<>(predecessor, current);
+                }
+                predecessor = current;
+                current = successor;
+            }
+        }
+    }
+
+    /**
+     * Logically deletes a node by marking its next pointer and then tries to unlink it.
+     *
+     * @param predecessor the node observed before the node to delete
+     * @param node        the node to delete
+     * @return true if this call marked the node, false if it was already marked
+     */
+    private boolean markAndUnlink(ConcurrentNode<T> predecessor, ConcurrentNode<T> node) {
+        boolean[] marked = {false};
+        ConcurrentNode<T> successor = node.next.get(marked);
+        while (!marked[0]) {
+            if (node.next.compareAndSet(successor, successor, false, true)) {
+                size.decrementAndGet();
+                if (!predecessor.next.compareAndSet(node, successor, false, false)) {
+                    // Another thread changed the predecessor; let a traversal clean up
+                    find(node.value, false);
+                }
+                return true;
+            }
+            successor = node.next.get(marked);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first unmarked node, or null if the list is empty.
+     */
+    private ConcurrentNode<T> firstNode() {
+        boolean[] marked = {false};
+        ConcurrentNode<T> current = head.next.getReference();
+        while (current != null) {
+            ConcurrentNode<T> next = current.next.get(marked);
+            if (!marked[0]) {
+                return current;
+            }
+            current = next;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Node of the lock-free list with a markable next pointer.
+     */
+    private static final class ConcurrentNode<T> {
+
+        private final T value;
+        private final AtomicMarkableReference<ConcurrentNode<T>> next;
+
+        ConcurrentNode(T value, ConcurrentNode<T> next) {
+            this.value = value;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+
+    /**
+     * A pair of adjacent nodes returned by {@link #find(Comparable, boolean)}.
+     */
+    private record Window<T>(ConcurrentNode<T> predecessor, ConcurrentNode<T> current) {
+    }
+
+    /**
+     * Weakly consistent iterator implementation for ConcurrentSortedLinkedList.
+     */
+    private class WeaklyConsistentIterator implements Iterator<T> {
+
+        private final boolean[] marked = {false};
+        private ConcurrentNode<T> nextNode;
+        private ConcurrentNode<T> lastReturned;
+
+        WeaklyConsistentIterator() {
+            this.nextNode = firstNode();
+            this.lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = nextNode;
+            nextNode = advance(nextNode);
+            return lastReturned.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            markAndUnlink(head, lastReturned);
+            lastReturned = null;
+        }
+
+        private ConcurrentNode<T> advance(ConcurrentNode<T> node) {
+            ConcurrentNode<T> current = node.next.getReference();
+            while (current != null) {
+                ConcurrentNode<T> next = current.next.get(marked);
+                if (!marked[0]) {
+                    return current;
+                }
+                current = next;
+            }
+            return null;
+        }
+    }
+}
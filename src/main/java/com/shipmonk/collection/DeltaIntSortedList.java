@@ -0,0 +1,890 @@
+package com.shipmonk.collection;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A compressed sorted list of primitive {@code int} values.
+ * <p>
+ * Values are stored in blocks of up to {@code blockCapacity} values. The first value of
+ * a block is kept in a directory; every following value is stored as the unsigned
+ * difference to its predecessor, encoded as a varint in the block's byte array. Since the
+ * differences between neighboring sorted values are usually small, most values take one
+ * or two bytes instead of the 4 bytes of {@link IntSortedList} or the node and boxed
+ * {@link Integer} of {@link SortedLinkedList#ofIntegers()}.
+ * </p>
+ * <p>
+ * The directory holds the minimum, maximum and number of values of every block in
+ * parallel arrays. Lookups binary-search the directory, reject values outside a block's
+ * min/max range without touching it, and scan at most one block in place, without writing
+ * to any shared buffer, so concurrent readers are safe while no thread mutates the list.
+ * Every mutation decodes and re-encodes a single block; a block that overflows is split in
+ * half, and a block that drops below a quarter of its capacity is merged with a neighbor
+ * when the two fit into one block.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <p>
+ * With n elements and block capacity B:
+ * </p>
+ * <ul>
+ *   <li>add(int)/remove(int)/contains(int): O(log(n/B) + B)</li>
+ *   <li>get(int)/indexOf(int)/rankOf(int)/count(int)/removeAt(int): O(n/B + B)</li>
+ *   <li>range(int, int): O(log(n/B) + B) to start, then O(1) per value</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * DeltaIntSortedList ids = DeltaIntSortedList.create();
+ * ids.add(1_000_003);
+ * ids.add(1_000_001);
+ * ids.add(1_000_002);
+ * ids.range(1_000_001, 1_000_003).sum();   // 2_000_003
+ * }</pre>
+ *
+ * @see IntSortedList
+ */
+public final class DeltaIntSortedList implements Iterable<Integer> {
+
+    /**
+     * Default number of values held by a single block.
+     */
+    public static final int DEFAULT_BLOCK_CAPACITY = 128;
+
+    /**
+     * Smallest block capacity accepted by the factory methods.
+     */
+    public static final int MIN_BLOCK_CAPACITY = 4;
+
+    private static final int INITIAL_DIRECTORY_CAPACITY = 4;
+
+    /**
+     * Longest varint encoding of an int.
+     */
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final int blockCapacity;
+
+    // Block directory
+    private int[] mins;
+    private int[] maxs;
+    private int[] counts;
+    private byte[][] blocks;
+    private int blockCount;
+
+    private int size;
+    private int modCount;
+
+    /**
+     * Decoding buffer for mutations, large enough for one block plus an insert.
+     * Lookups scan the encoded blocks in place instead, so concurrent readers share no state.
+     */
+    private final int[] scratch;
+
+    /**
+     * Encoding buffer, large enough for one block of worst-case varints.
+     */
+    private final byte[] encodeBuffer;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     *
+     * @param blockCapacity the number of values held by a single block
+     */
+    private DeltaIntSortedList(int blockCapacity) {
+        if (blockCapacity < MIN_BLOCK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Block capacity must be at least " + MIN_BLOCK_CAPACITY + ": " + blockCapacity);
+        }
+        this.blockCapacity = blockCapacity;
+        this.mins = new int[INITIAL_DIRECTORY_CAPACITY];
+        this.maxs = new int[INITIAL_DIRECTORY_CAPACITY];
+        this.counts = new int[INITIAL_DIRECTORY_CAPACITY];
+        this.blocks = new byte[INITIAL_DIRECTORY_CAPACITY][];
+        this.blockCount = 0;
+        this.size = 0;
+        this.modCount = 0;
+        this.scratch = new int[2 * blockCapacity];
+        this.encodeBuffer = new byte[(blockCapacity + 1) * MAX_VARINT_BYTES];
+    }
+
+    /**
+     * Creates a new empty compressed sorted list for int values.
+     *
+     * @return a new empty DeltaIntSortedList
+     */
+    public static DeltaIntSortedList create() {
+        return new DeltaIntSortedList(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty compressed sorted list for int values with the given block capacity.
+     * <p>
+     * Larger blocks shrink the directory, but make every lookup and mutation decode more values.
+     * </p>
+     *
+     * @param blockCapacity the number of values held by a single block
+     * @return a new empty DeltaIntSortedList
+     * @throws IllegalArgumentException if the capacity is less than {@link #MIN_BLOCK_CAPACITY}
+     */
+    public static DeltaIntSortedList create(int blockCapacity) {
+        return new DeltaIntSortedList(blockCapacity);
+    }
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * <p>
+     * Duplicates are allowed and will be placed after existing equal elements.
+     * </p>
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        modCount++;
+        size++;
+
+        if (blockCount == 0) {
+            insertBlock(0);
+            scratch[0] = value;
+            encode(0, scratch, 0, 1);
+            return;
+        }
+
+        int block = blockForInsert(value);
+        int count = decode(block, scratch, 0);
+        int position = upperBound(scratch, count, value);
+        System.arraycopy(scratch, position, scratch, position + 1, count - position);
+        scratch[position] = value;
+        count++;
+
+        if (count > blockCapacity) {
+            int half = count / 2;
+            insertBlock(block + 1);
+            encode(block + 1, scratch, half, count);
+            encode(block, scratch, 0, half);
+        } else {
+            encode(block, scratch, 0, count);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed, false otherwise
+     */
+    public boolean remove(int value) {
+        int block = firstBlockNotBelow(value);
+        if (block == blockCount || mins[block] > value) {
+            return false;
+        }
+        int count = decode(block, scratch, 0);
+        int position = lowerBound(scratch, count, value);
+        if (scratch[position] != value) {
+            return false;
+        }
+        removeRange(block, count, position, position + 1);
+        rebalance(block);
+        return true;
+    }
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     */
+    public int removeAll(int value) {
+        int first = firstBlockNotBelow(value);
+        int block = first;
+        int removedCount = 0;
+        while (block < blockCount && mins[block] <= value) {
+            int count = decode(block, scratch, 0);
+            int from = lowerBound(scratch, count, value);
+            int to = upperBound(scratch, count, value);
+            if (from == to) {
+                break;
+            }
+            removeRange(block, count, from, to);
+            removedCount += to - from;
+            if (from == 0 && to == count) {
+                // The block was removed; the next one moved to its index
+                continue;
+            }
+            if (to < count) {
+                break;
+            }
+            block++;
+        }
+        if (block < blockCount) {
+            rebalance(block);
+        }
+        if (first != block && first < blockCount) {
+            rebalance(first);
+        }
+        return removedCount;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to remove (0-based)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int block = blockAt(index);
+        int count = decode(block, scratch, 0);
+        int position = index - blockStart(block);
+        int value = scratch[position];
+        removeRange(block, count, position, position + 1);
+        rebalance(block);
+        return value;
+    }
+
+    /**
+     * Internal helper method to remove the values in [from, to) of a block decoded into {@link #scratch}.
+     * Removes the block if it becomes empty.
+     *
+     * @param block the block index
+     * @param count the number of values in the block
+     * @param from  the first position to remove
+     * @param to    the position after the last value to remove
+     */
+    private void removeRange(int block, int count, int from, int to) {
+        modCount++;
+        size -= to - from;
+        System.arraycopy(scratch, to, scratch, from, count - to);
+        int remaining = count - (to - from);
+        if (remaining == 0) {
+            removeBlock(block);
+        } else {
+            encode(block, scratch, 0, remaining);
+        }
+    }
+
+    /**
+     * Merges an underfull block with a neighbor if both fit into a single block.
+     *
+     * @param block the block that may have become underfull
+     */
+    private void rebalance(int block) {
+        if (block >= blockCount || counts[block] >= blockCapacity / 4) {
+            return;
+        }
+        if (block + 1 < blockCount && counts[block] + counts[block + 1] <= blockCapacity) {
+            merge(block);
+        } else if (block > 0 && counts[block - 1] + counts[block] <= blockCapacity) {
+            merge(block - 1);
+        }
+    }
+
+    /**
+     * Appends all values of the following block to a block and removes the following block.
+     *
+     * @param block the block receiving the values
+     */
+    private void merge(int block) {
+        int count = decode(block, scratch, 0);
+        count += decode(block + 1, scratch, count);
+        encode(block, scratch, 0, count);
+        removeBlock(block + 1);
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        int block = firstBlockNotBelow(value);
+        if (block == blockCount || mins[block] > value) {
+            return false;
+        }
+        return searchBlock(block, value) >= 0;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the index of the element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        int block = blockAt(index);
+        return valueInBlock(block, index - blockStart(block));
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(int value) {
+        int block = firstBlockNotBelow(value);
+        if (block == blockCount || mins[block] > value) {
+            return -1;
+        }
+        int position = searchBlock(block, value);
+        return position >= 0 ? blockStart(block) + position : -1;
+    }
+
+    /**
+     * Returns the index at which the specified value would be inserted by {@link #add(int)},
+     * i.e. the number of elements less than or equal to the value.
+     *
+     * @param value the value to rank
+     * @return the insertion index of the value
+     */
+    public int rankOf(int value) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxs[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == blockCount) {
+            return size;
+        }
+        return blockStart(low) + upperBoundInBlock(low, value);
+    }
+
+    /**
+     * Counts the number of occurrences of the specified value.
+     *
+     * @param value the value to count
+     * @return the number of occurrences
+     */
+    public int count(int value) {
+        int block = firstBlockNotBelow(value);
+        if (block == blockCount || mins[block] > value) {
+            return 0;
+        }
+        int position = searchBlock(block, value);
+        return position < 0 ? 0 : rankOf(value) - blockStart(block) - position;
+    }
+
+    /**
+     * Returns a stream of the values in {@code [from, to)} in ascending order.
+     * <p>
+     * The directory is used to seek to the first block that can contain {@code from};
+     * only the blocks overlapping the range are decoded, one at a time.
+     * </p>
+     *
+     * @param from the lower bound (inclusive)
+     * @param to   the upper bound (exclusive)
+     * @return an IntStream over the values in the range
+     * @throws IllegalArgumentException if {@code from > to}
+     */
+    public IntStream range(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from " + from + " is greater than to " + to);
+        }
+        return StreamSupport.intStream(
+                Spliterators.spliteratorUnknownSize(new DeltaIterator(from, to),
+                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    /**
+     * Returns the first (smallest) element in the list.
+     *
+     * @return an OptionalInt containing the first element, or empty if the list is empty
+     */
+    public OptionalInt first() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(mins[0]);
+    }
+
+    /**
+     * Returns the last (largest) element in the list.
+     *
+     * @return an OptionalInt containing the last element, or empty if the list is empty
+     */
+    public OptionalInt last() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(maxs[blockCount - 1]);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    public void clear() {
+        Arrays.fill(blocks, 0, blockCount, null);
+        blockCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the list contents as an array.
+     *
+     * @return a new array containing all elements in sorted order
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int position = 0;
+        for (int block = 0; block < blockCount; block++) {
+            position += decode(block, result, position);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sequential IntStream with this list as its source.
+     *
+     * @return an IntStream over the elements in this list
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(
+                Spliterators.spliterator(iterator(), size,
+                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    /**
+     * Returns a fail-fast primitive iterator over the elements in this list.
+     * <p>
+     * Blocks are decoded one at a time as the iterator reaches them. The iterator will
+     * throw {@link ConcurrentModificationException} if the list is modified after the
+     * iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new DeltaIterator(Integer.MIN_VALUE, (long) Integer.MAX_VALUE + 1);
+    }
+
+    /**
+     * Returns the block into which a value must be inserted: the last block
+     * whose minimum is less than or equal to the value, or the first block.
+     */
+    private int blockForInsert(int value) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (mins[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(0, low - 1);
+    }
+
+    /**
+     * Returns the first block whose maximum is not less than the value, or {@link #blockCount}.
+     * The first occurrence of the value, if any, lies in this block.
+     */
+    private int firstBlockNotBelow(int value) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxs[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the block containing the specified index, walking the directory from the nearest end.
+     */
+    private int blockAt(int index) {
+        if (index < size / 2) {
+            int block = 0;
+            int start = 0;
+            while (start + counts[block] <= index) {
+                start += counts[block];
+                block++;
+            }
+            return block;
+        }
+        int block = blockCount - 1;
+        int start = size - counts[block];
+        while (start > index) {
+            block--;
+            start -= counts[block];
+        }
+        return block;
+    }
+
+    /**
+     * Returns the index of the first value of a block.
+     */
+    private int blockStart(int block) {
+        int start = 0;
+        if (block < blockCount / 2) {
+            for (int i = 0; i < block; i++) {
+                start += counts[i];
+            }
+            return start;
+        }
+        start = size;
+        for (int i = blockCount - 1; i >= block; i--) {
+            start -= counts[i];
+        }
+        return start;
+    }
+
+    /**
+     * Opens a slot in the directory at the given block index.
+     */
+    private void insertBlock(int block) {
+        if (blockCount == mins.length) {
+            int capacity = blockCount + (blockCount >> 1) + 1;
+            mins = Arrays.copyOf(mins, capacity);
+            maxs = Arrays.copyOf(maxs, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            blocks = Arrays.copyOf(blocks, capacity);
+        }
+        int moved = blockCount - block;
+        System.arraycopy(mins, block, mins, block + 1, moved);
+        System.arraycopy(maxs, block, maxs, block + 1, moved);
+        System.arraycopy(counts, block, counts, block + 1, moved);
+        System.arraycopy(blocks, block, blocks, block + 1, moved);
+        blockCount++;
+    }
+
+    /**
+     * Removes a block from the directory.
+     */
+    private void removeBlock(int block) {
+        int moved = blockCount - block - 1;
+        System.arraycopy(mins, block + 1, mins, block, moved);
+        System.arraycopy(maxs, block + 1, maxs, block, moved);
+        System.arraycopy(counts, block + 1, counts, block, moved);
+        System.arraycopy(blocks, block + 1, blocks, block, moved);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+
+    /**
+     * Encodes values[from, to) into a block and updates its directory entry.
+     */
+    private void encode(int block, int[] values, int from, int to) {
+        int length = 0;
+        for (int i = from + 1; i < to; i++) {
+            // Unsigned difference; values are ascending, so it always fits in 32 bits
+            int delta = values[i] - values[i - 1];
+            while ((delta & ~0x7F) != 0) {
+                encodeBuffer[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            encodeBuffer[length++] = (byte) delta;
+        }
+        mins[block] = values[from];
+        maxs[block] = values[to - 1];
+        counts[block] = to - from;
+        blocks[block] = Arrays.copyOf(encodeBuffer, length);
+    }
+
+    /**
+     * Decodes the values of a block into an array.
+     *
+     * @param block  the block index
+     * @param into   the target array
+     * @param offset the position of the first value in the target array
+     * @return the number of values decoded
+     */
+    private int decode(int block, int[] into, int offset) {
+        byte[] data = blocks[block];
+        int count = counts[block];
+        int value = mins[block];
+        into[offset] = value;
+        int position = 0;
+        for (int i = 1; i < count; i++) {
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            value += delta;
+            into[offset + i] = value;
+        }
+        return count;
+    }
+
+    /**
+     * Searches a block for the first occurrence of a value, decoding its deltas in place.
+     *
+     * @param block the block index
+     * @param value the value to search for
+     * @return the position of the first occurrence within the block, or
+     * {@code -(insertion point) - 1} if the block does not contain the value
+     */
+    private int searchBlock(int block, int value) {
+        byte[] data = blocks[block];
+        int count = counts[block];
+        int current = mins[block];
+        int position = 0;
+        for (int i = 0; ; i++) {
+            if (current >= value) {
+                return current == value ? i : -i - 1;
+            }
+            if (i + 1 == count) {
+                return -count - 1;
+            }
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            current += delta;
+        }
+    }
+
+    /**
+     * Returns the number of values of a block less than or equal to a value, decoding its deltas in place.
+     */
+    private int upperBoundInBlock(int block, int value) {
+        byte[] data = blocks[block];
+        int count = counts[block];
+        int current = mins[block];
+        int position = 0;
+        for (int i = 0; ; i++) {
+            if (current > value) {
+                return i;
+            }
+            if (i + 1 == count) {
+                return count;
+            }
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            current += delta;
+        }
+    }
+
+    /**
+     * Returns the value at a position of a block, decoding its deltas in place.
+     */
+    private int valueInBlock(int block, int index) {
+        byte[] data = blocks[block];
+        int current = mins[block];
+        int position = 0;
+        for (int i = 0; i < index; i++) {
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            current += delta;
+        }
+        return current;
+    }
+
+    private static int lowerBound(int[] values, int count, int value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(int[] values, int count, int value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DeltaIntSortedList other)) {
+            return false;
+        }
+        return size == other.size && Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (PrimitiveIterator.OfInt iterator = iterator(); iterator.hasNext(); ) {
+            result = 31 * result + Integer.hashCode(iterator.nextInt());
+        }
+        return result;
+    }
+
+    /**
+     * Fail-fast primitive iterator over the values in a range, decoding one block at a time.
+     */
+    private class DeltaIterator implements PrimitiveIterator.OfInt {
+
+        /**
+         * Exclusive upper bound, widened to long so that the full iterator includes Integer.MAX_VALUE.
+         */
+        private final long end;
+        private final int[] buffer;
+        private int block;
+        private int offset;
+        private int loadedBlock;
+        private int loadedCount;
+        private int lastBlock;
+        private int lastOffset;
+        private int expectedModCount;
+
+        DeltaIterator(int from, long end) {
+            this.end = end;
+            this.buffer = new int[blockCapacity];
+            this.block = firstBlockNotBelow(from);
+            this.loadedBlock = -1;
+            this.lastBlock = -1;
+            this.expectedModCount = modCount;
+            if (block < blockCount) {
+                load();
+                this.offset = lowerBound(buffer, loadedCount, from);
+            }
+        }
+
+        private void load() {
+            if (loadedBlock != block) {
+                loadedCount = decode(block, buffer, 0);
+                loadedBlock = block;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (block >= blockCount) {
+                return false;
+            }
+            load();
+            return buffer[offset] < end;
+        }
+
+        @Override
+        public int nextInt() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastBlock = block;
+            lastOffset = offset;
+            int value = buffer[offset++];
+            if (offset == loadedCount) {
+                block++;
+                offset = 0;
+            }
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastBlock < 0) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            int count = decode(lastBlock, scratch, 0);
+            removeRange(lastBlock, count, lastOffset, lastOffset + 1);
+            if (lastBlock == block) {
+                offset--;
+            } else if (count == 1) {
+                // The previous block was removed, shifting the current one down
+                block--;
+            }
+            loadedBlock = -1;
+            lastBlock = -1;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
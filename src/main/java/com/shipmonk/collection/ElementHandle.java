@@ -0,0 +1,89 @@
+package com.shipmonk.collection;
+
+/**
+ * An opaque reference to one element inserted into a {@link SortedLinkedList}.
+ * <p>
+ * Handles are returned by {@link SortedLinkedList#addAndGetHandle(Comparable)} and identify
+ * exactly the inserted occurrence, even when the list contains equal elements. Passing a handle
+ * to {@link SortedLinkedList#removeByHandle(ElementHandle)} unlinks that occurrence without
+ * searching for it, and {@link SortedLinkedList#update(ElementHandle, Comparable)} changes its
+ * value and moves it locally to its new position. The handle stays valid across updates.
+ * </p>
+ * <p>
+ * A handle becomes stale once its element is removed from the list by any means, or when the
+ * list is cleared. Stale handles are detected by the list and are never mistaken for another
+ * element.
+ * </p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public final class ElementHandle<T extends Comparable<T>> {
+
+    private final SortedLinkedList<T> list;
+    private final Node<T> node;
+    private final int generation;
+
+    /**
+     * Creates a handle for a node that has just been linked into the list.
+     *
+     * @param list       the list that owns the node
+     * @param node       the referenced node
+     * @param generation the generation of the list at the time the node was linked
+     */
+    ElementHandle(SortedLinkedList<T> list, Node<T> node, int generation) {
+        this.list = list;
+        this.node = node;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the current value of the element referenced by this handle.
+     * The value remains available after the handle becomes stale.
+     *
+     * @return the referenced element
+     */
+    public T value() {
+        return node.getValue();
+    }
+
+    /**
+     * Checks whether the referenced element is still in the list.
+     *
+     * @return true if the element has not been removed and the list has not been cleared
+     */
+    public boolean isValid() {
+        return list.isLinked(this);
+    }
+
+    /**
+     * Returns the list that issued this handle.
+     *
+     * @return the owning list
+     */
+    SortedLinkedList<T> list() {
+        return list;
+    }
+
+    /**
+     * Returns the referenced node.
+     *
+     * @return the node
+     */
+    Node<T> node() {
+        return node;
+    }
+
+    /**
+     * Returns the generation of the owning list at the time the handle was issued.
+     *
+     * @return the generation
+     */
+    int generation() {
+        return generation;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementHandle[" + node.getValue() + "]";
+    }
+}
@@ -0,0 +1,801 @@
+package com.shipmonk.collection;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A sorted linked list of Strings that stores its values front-coded (prefix-compressed).
+ * <p>
+ * Values are kept in linked blocks of up to {@code blockCapacity} strings. The first
+ * string of a block is stored as is; every following string is stored as the number of
+ * leading characters it shares with its predecessor and the remaining suffix, both encoded
+ * as varints in a single byte array. Sorted strings with long common prefixes, such as
+ * SKUs or location codes like {@code EU-PRG-A01-...}, therefore cost only their differing
+ * suffix, typically one byte per character, instead of a full {@link String} object each.
+ * </p>
+ * <p>
+ * Searches locate a block by its first and last value and then decode it sequentially into
+ * a character buffer owned by the search, so they compare without creating strings and
+ * concurrent readers do not share state. Strings are only materialized when they are returned. Every mutation re-encodes the affected block; a
+ * block that overflows is split in half, and a block that drops below a quarter of its
+ * capacity is merged with a neighbor when the two fit into one block.
+ * </p>
+ * <p>
+ * Ordering, duplicate handling and fail-fast iteration match {@link SortedLinkedList}.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <p>
+ * With n elements and block capacity B:
+ * </p>
+ * <ul>
+ *   <li>add(String)/remove(String): O(n/B + B) comparisons and O(B) re-encoding</li>
+ *   <li>contains(String)/indexOf(String)/rankOf(String)/count(String): O(n/B + B)</li>
+ *   <li>get(int)/removeAt(int): O(n/B + B) - optimized to traverse from nearest end</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * @see SortedList
+ * @see #ofStrings()
+ */
+public final class FrontCodedSortedLinkedList implements SortedList<String> {
+
+    /**
+     * Default number of strings held by a single block.
+     */
+    public static final int DEFAULT_BLOCK_CAPACITY = 32;
+
+    /**
+     * Smallest block capacity accepted by the factory methods.
+     */
+    public static final int MIN_BLOCK_CAPACITY = 4;
+
+    private final int blockCapacity;
+    private Block head;
+    private Block tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     *
+     * @param blockCapacity the number of strings held by a single block
+     */
+    private FrontCodedSortedLinkedList(int blockCapacity) {
+        if (blockCapacity < MIN_BLOCK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Block capacity must be at least " + MIN_BLOCK_CAPACITY + ": " + blockCapacity);
+        }
+        this.blockCapacity = blockCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates a new empty front-coded sorted linked list for String values.
+     *
+     * @return a new empty FrontCodedSortedLinkedList
+     */
+    public static FrontCodedSortedLinkedList ofStrings() {
+        return new FrontCodedSortedLinkedList(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty front-coded sorted linked list for String values.
+     * <p>
+     * Larger blocks compress better, since only the first string of a block is stored in
+     * full, but make every search and mutation decode more strings.
+     * </p>
+     *
+     * @param blockCapacity the number of strings held by a single block
+     * @return a new empty FrontCodedSortedLinkedList
+     * @throws IllegalArgumentException if the capacity is less than {@link #MIN_BLOCK_CAPACITY}
+     */
+    public static FrontCodedSortedLinkedList ofStrings(int blockCapacity) {
+        return new FrontCodedSortedLinkedList(blockCapacity);
+    }
+
+    @Override
+    public void add(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        modCount++;
+        size++;
+
+        if (head == null) {
+            head = new Block(new String[]{value}, 0, 1);
+            tail = head;
+            return;
+        }
+
+        Block block = blockForInsert(value);
+        String[] values = block.decode(1);
+        int position = upperBound(values, block.count, value);
+        System.arraycopy(values, position, values, position + 1, block.count - position);
+        values[position] = value;
+        store(block, values, block.count + 1);
+    }
+
+    /**
+     * Returns the block into which a value must be inserted: the last block
+     * whose first value is less than or equal to the value, or the head.
+     *
+     * @param value the value being inserted
+     * @return the target block
+     */
+    private Block blockForInsert(String value) {
+        if (tail.first.compareTo(value) <= 0) {
+            return tail;
+        }
+        Block block = head;
+        while (block.next != null && block.next.first.compareTo(value) <= 0) {
+            block = block.next;
+        }
+        return block;
+    }
+
+    /**
+     * Re-encodes a block with new contents, splitting it if it overflows and unlinking it if it is empty.
+     *
+     * @param block  the block to update
+     * @param values the new values of the block in ascending order
+     * @param count  the number of values to use
+     */
+    private void store(Block block, String[] values, int count) {
+        if (count == 0) {
+            unlink(block);
+        } else if (count > blockCapacity) {
+            int half = count / 2;
+            Block right = new Block(values, half, count);
+            block.encode(values, 0, half);
+            linkAfter(block, right);
+        } else {
+            block.encode(values, 0, count);
+        }
+    }
+
+    @Override
+    public boolean remove(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Block block = firstBlockNotBelow(value);
+        if (block == null) {
+            return false;
+        }
+        String[] values = block.decode(0);
+        int position = lowerBound(values, block.count, value);
+        if (!values[position].equals(value)) {
+            return false;
+        }
+        removeRange(block, values, position, position + 1);
+        rebalance(block);
+        return true;
+    }
+
+    @Override
+    public int removeAll(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Block block = firstBlockNotBelow(value);
+        Block first = block;
+        int removedCount = 0;
+        while (block != null) {
+            String[] values = block.decode(0);
+            int count = block.count;
+            int from = lowerBound(values, count, value);
+            int to = upperBound(values, count, value);
+            if (from == to) {
+                break;
+            }
+            Block next = block.next;
+            removeRange(block, values, from, to);
+            removedCount += to - from;
+            if (to < count) {
+                break;
+            }
+            block = next;
+        }
+        if (block != null && block != first) {
+            rebalance(block);
+        }
+        if (first != null) {
+            rebalance(first);
+        }
+        return removedCount;
+    }
+
+    @Override
+    public String removeAt(int index) {
+        checkIndex(index);
+        BlockPosition located = blockAt(index);
+        Block block = located.block();
+        String[] values = block.decode(0);
+        int position = index - located.start();
+        String value = values[position];
+        removeRange(block, values, position, position + 1);
+        rebalance(block);
+        return value;
+    }
+
+    /**
+     * Internal helper method to remove the values in [from, to) of a decoded block.
+     *
+     * @param block  the block to remove from
+     * @param values the decoded values of the block
+     * @param from   the first position to remove
+     * @param to     the position after the last value to remove
+     */
+    private void removeRange(Block block, String[] values, int from, int to) {
+        modCount++;
+        int count = block.count;
+        System.arraycopy(values, to, values, from, count - to);
+        size -= to - from;
+        store(block, values, count - (to - from));
+    }
+
+    /**
+     * Merges an underfull block with a neighbor if both fit into a single block.
+     *
+     * @param block the block that may have become underfull
+     */
+    private void rebalance(Block block) {
+        if (!isLinked(block) || block.count >= blockCapacity / 4) {
+            return;
+        }
+        if (block.next != null && block.count + block.next.count <= blockCapacity) {
+            absorb(block, block.next);
+        } else if (block.prev != null && block.prev.count + block.count <= blockCapacity) {
+            absorb(block.prev, block);
+        }
+    }
+
+    /**
+     * Appends all values of a block to its predecessor and unlinks it.
+     *
+     * @param left  the block receiving the values
+     * @param right the block directly after {@code left}
+     */
+    private void absorb(Block left, Block right) {
+        int leftCount = left.count;
+        String[] values = left.decode(right.count);
+        System.arraycopy(right.decode(0), 0, values, leftCount, right.count);
+        left.encode(values, 0, leftCount + right.count);
+        unlink(right);
+    }
+
+    private void linkAfter(Block block, Block right) {
+        right.prev = block;
+        right.next = block.next;
+        if (block.next == null) {
+            tail = right;
+        } else {
+            block.next.prev = right;
+        }
+        block.next = right;
+    }
+
+    private void unlink(Block block) {
+        if (block.prev == null) {
+            head = block.next;
+        } else {
+            block.prev.next = block.next;
+        }
+        if (block.next == null) {
+            tail = block.prev;
+        } else {
+            block.next.prev = block.prev;
+        }
+        block.prev = null;
+        block.next = null;
+    }
+
+    private boolean isLinked(Block block) {
+        return block == head || block.prev != null;
+    }
+
+    @Override
+    public boolean contains(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Block block = firstBlockNotBelow(value);
+        if (block == null) {
+            return false;
+        }
+        Cursor cursor = new Cursor(block);
+        int cmp;
+        while ((cmp = cursor.compareTo(value)) < 0) {
+            cursor.advance();
+        }
+        return cmp == 0;
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        BlockPosition located = blockAt(index);
+        Cursor cursor = new Cursor(located.block());
+        for (int i = located.start(); i < index; i++) {
+            cursor.advance();
+        }
+        return cursor.value();
+    }
+
+    /**
+     * A block and the position of its first value.
+     */
+    private record BlockPosition(Block block, int start) {
+    }
+
+    /**
+     * Returns the block containing the specified index, traversing from the nearest end.
+     *
+     * @param index the index to locate
+     * @return the block containing the index and the position of its first value
+     */
+    private BlockPosition blockAt(int index) {
+        if (index < size / 2) {
+            Block block = head;
+            int start = 0;
+            while (start + block.count <= index) {
+                start += block.count;
+                block = block.next;
+            }
+            return new BlockPosition(block, start);
+        }
+        Block block = tail;
+        int start = size - block.count;
+        while (start > index) {
+            block = block.prev;
+            start -= block.count;
+        }
+        return new BlockPosition(block, start);
+    }
+
+    @Override
+    public int indexOf(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int start = 0;
+        Block block = head;
+        while (block != null && block.last.compareTo(value) < 0) {
+            start += block.count;
+            block = block.next;
+        }
+        if (block == null) {
+            return -1;
+        }
+        Cursor cursor = new Cursor(block);
+        int cmp;
+        while ((cmp = cursor.compareTo(value)) < 0) {
+            cursor.advance();
+        }
+        return cmp == 0 ? start + cursor.index : -1;
+    }
+
+    @Override
+    public int rankOf(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int rank = 0;
+        Block block = head;
+        while (block != null && block.last.compareTo(value) <= 0) {
+            rank += block.count;
+            block = block.next;
+        }
+        if (block == null) {
+            return rank;
+        }
+        Cursor cursor = new Cursor(block);
+        while (cursor.compareTo(value) <= 0) {
+            rank++;
+            cursor.advance();
+        }
+        return rank;
+    }
+
+    @Override
+    public int count(String value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int occurrences = 0;
+        for (Block block = firstBlockNotBelow(value); block != null; block = block.next) {
+            Cursor cursor = new Cursor(block);
+            int cmp;
+            while ((cmp = cursor.compareTo(value)) <= 0) {
+                if (cmp == 0) {
+                    occurrences++;
+                }
+                if (!cursor.advance()) {
+                    break;
+                }
+            }
+            if (cmp > 0) {
+                break;
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first block whose last value is not less than the value.
+     * The first occurrence of the value, if any, lies in this block.
+     *
+     * @param value the value being searched for
+     * @return the block, or null if every value is less than the value
+     */
+    private Block firstBlockNotBelow(String value) {
+        Block block = head;
+        while (block != null && block.last.compareTo(value) < 0) {
+            block = block.next;
+        }
+        return block;
+    }
+
+    private static int lowerBound(String[] values, int count, String value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(String[] values, int count, String value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Optional<String> first() {
+        return head == null ? Optional.empty() : Optional.of(head.first);
+    }
+
+    @Override
+    public Optional<String> last() {
+        return tail == null ? Optional.empty() : Optional.of(tail.last);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public List<String> toList() {
+        List<String> result = new ArrayList<>(size);
+        for (Block block = head; block != null; block = block.next) {
+            result.addAll(Arrays.asList(block.decode(0)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * Blocks are decoded one at a time as the iterator reaches them. The iterator will
+     * throw {@link ConcurrentModificationException} if the list is modified after the
+     * iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new FrontCodedIterator();
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrontCodedSortedLinkedList other)) {
+            return false;
+        }
+        if (this.size != other.size) {
+            return false;
+        }
+
+        Iterator<String> thisIterator = this.iterator();
+        Iterator<String> otherIterator = other.iterator();
+
+        while (thisIterator.hasNext()) {
+            if (!thisIterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (String element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * A node of the list holding a front-coded run of sorted strings.
+     * Linked blocks are never empty.
+     * <p>
+     * {@code data} holds, for every string after the first, a varint shared prefix length,
+     * a varint suffix length and the suffix characters as varints, all counted in UTF-16
+     * chars so that any string, including unpaired surrogates, round-trips exactly.
+     * </p>
+     */
+    private static final class Block {
+
+        private String first;
+        private String last;
+        private byte[] data;
+        private int count;
+        private Block next;
+        private Block prev;
+
+        Block(String[] values, int from, int to) {
+            encode(values, from, to);
+        }
+
+        /**
+         * Replaces the contents of this block with values[from, to).
+         */
+        void encode(String[] values, int from, int to) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int i = from + 1; i < to; i++) {
+                String previous = values[i - 1];
+                String current = values[i];
+                int limit = Math.min(previous.length(), current.length());
+                int shared = 0;
+                while (shared < limit && previous.charAt(shared) == current.charAt(shared)) {
+                    shared++;
+                }
+                writeVarint(out, shared);
+                writeVarint(out, current.length() - shared);
+                for (int c = shared; c < current.length(); c++) {
+                    writeVarint(out, current.charAt(c));
+                }
+            }
+            this.first = values[from];
+            this.last = values[to - 1];
+            this.data = out.toByteArray();
+            this.count = to - from;
+        }
+
+        /**
+         * Decodes all strings of this block into a new array with room for extra values.
+         */
+        String[] decode(int extra) {
+            String[] values = new String[count + extra];
+            Cursor decoder = new Cursor(this);
+            values[0] = first;
+            for (int i = 1; i < count; i++) {
+                decoder.advance();
+                values[i] = decoder.value();
+            }
+            // The last value is kept decoded, so share it instead of a copy
+            values[count - 1] = last;
+            return values;
+        }
+
+        private static void writeVarint(ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    /**
+     * Sequential decoder over the strings of one block, reusing a single character buffer.
+     * Every search creates its own cursor, so concurrent readers never share a buffer.
+     */
+    private static final class Cursor {
+
+        private final Block block;
+        private char[] chars;
+        private int length;
+        private int offset;
+
+        /**
+         * Index of the current string within the block.
+         */
+        private int index;
+
+        Cursor(Block block) {
+            this.block = block;
+            String first = block.first;
+            this.chars = new char[Math.max(32, first.length())];
+            first.getChars(0, first.length(), chars, 0);
+            this.length = first.length();
+            this.offset = 0;
+            this.index = 0;
+        }
+
+        /**
+         * Moves to the next string of the block.
+         *
+         * @return false if the current string is the last one, in which case the cursor does not move
+         */
+        boolean advance() {
+            if (index + 1 >= block.count) {
+                return false;
+            }
+            int shared = readVarint();
+            int suffix = readVarint();
+            ensureCapacity(shared + suffix);
+            for (int i = 0; i < suffix; i++) {
+                chars[shared + i] = (char) readVarint();
+            }
+            length = shared + suffix;
+            index++;
+            return true;
+        }
+
+        /**
+         * Compares the current string with a value like {@link String#compareTo(String)}.
+         */
+        int compareTo(String value) {
+            int limit = Math.min(length, value.length());
+            for (int i = 0; i < limit; i++) {
+                char c = chars[i];
+                char other = value.charAt(i);
+                if (c != other) {
+                    return c - other;
+                }
+            }
+            return length - value.length();
+        }
+
+        String value() {
+            return index == 0 ? block.first : new String(chars, 0, length);
+        }
+
+        private int readVarint() {
+            byte[] data = block.data;
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (chars.length < capacity) {
+                chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+            }
+        }
+    }
+
+    /**
+     * Fail-fast iterator implementation for FrontCodedSortedLinkedList.
+     */
+    private class FrontCodedIterator implements Iterator<String> {
+
+        private Block block;
+        private String[] values;
+        private int offset;
+        private Block lastBlock;
+        private int lastOffset;
+        private int expectedModCount;
+
+        FrontCodedIterator() {
+            this.block = head;
+            this.values = null;
+            this.offset = 0;
+            this.lastBlock = null;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return block != null;
+        }
+
+        @Override
+        public String next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            if (values == null) {
+                values = block.decode(0);
+            }
+            lastBlock = block;
+            lastOffset = offset;
+            String value = values[offset++];
+            if (offset == values.length) {
+                block = block.next;
+                values = null;
+                offset = 0;
+            }
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastBlock == null) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            String[] decoded = lastBlock == block ? values : lastBlock.decode(0);
+            removeRange(lastBlock, decoded, lastOffset, lastOffset + 1);
+            if (lastBlock == block) {
+                // The block was re-encoded from the shifted array; drop the stale tail slot
+                offset--;
+                values = Arrays.copyOf(decoded, block.count);
+            }
+            lastBlock = null;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
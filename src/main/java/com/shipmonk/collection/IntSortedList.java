@@ -0,0 +1,440 @@
+package com.shipmonk.collection;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sorted list of primitive {@code int} values that maintains ascending order.
+ * <p>
+ * This is the primitive specialization of {@link SortedLinkedList#ofIntegers()}.
+ * Values are kept in a single sorted {@code int[]} instead of one {@link Node}
+ * holding a boxed {@link Integer} per element, which cuts the footprint to 4 bytes
+ * per element and turns lookups into binary searches. None of the primitive
+ * methods box their arguments or results.
+ * </p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Automatic sorting - elements are always maintained in sorted order</li>
+ *   <li>Duplicates allowed - same value can appear multiple times</li>
+ *   <li>Fail-fast iteration - detects concurrent modifications</li>
+ *   <li>Primitive iteration and streams - {@link PrimitiveIterator.OfInt} and {@link IntStream}</li>
+ * </ul>
+ *
+ * <h2>Complexity</h2>
+ * <ul>
+ *   <li>add(int): O(log n) search + O(n) array shift</li>
+ *   <li>remove(int): O(log n) search + O(n) array shift</li>
+ *   <li>contains(int)/count(int)/indexOf(int)/rankOf(int): O(log n)</li>
+ *   <li>get(int): O(1)</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * IntSortedList numbers = IntSortedList.create();
+ * numbers.add(5);
+ * numbers.add(1);
+ * numbers.add(3);
+ * // List is now: [1, 3, 5]
+ * int sum = numbers.stream().sum();
+ * }</pre>
+ *
+ * @see SortedLinkedList#ofIntegers()
+ */
+public final class IntSortedList implements Iterable<Integer> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+    private int modCount;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    private IntSortedList(int initialCapacity) {
+        this.elements = new int[initialCapacity];
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates a new empty sorted list for int values.
+     *
+     * @return a new empty IntSortedList
+     */
+    public static IntSortedList create() {
+        return new IntSortedList(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty sorted list for int values with the given initial capacity.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing
+     * @return a new empty IntSortedList
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public static IntSortedList create(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        return new IntSortedList(initialCapacity);
+    }
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * <p>
+     * Duplicates are allowed and will be placed after existing equal elements.
+     * </p>
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        int position = upperBound(value);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        System.arraycopy(elements, position, elements, position + 1, size - position);
+        elements[position] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed, false otherwise
+     */
+    public boolean remove(int value) {
+        int position = lowerBound(value);
+        if (position == size || elements[position] != value) {
+            return false;
+        }
+        removeRange(position, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     */
+    public int removeAll(int value) {
+        int from = lowerBound(value);
+        int to = upperBound(value);
+        if (from < to) {
+            removeRange(from, to);
+        }
+        return to - from;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to remove (0-based)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int value = elements[index];
+        removeRange(index, index + 1);
+        return value;
+    }
+
+    /**
+     * Internal helper method to remove the elements in [from, to).
+     *
+     * @param from the first index to remove
+     * @param to   the index after the last element to remove
+     */
+    private void removeRange(int from, int to) {
+        System.arraycopy(elements, to, elements, from, size - to);
+        size -= to - from;
+        modCount++;
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     */
+    public boolean contains(int value) {
+        int position = lowerBound(value);
+        return position < size && elements[position] == value;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the index of the element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    public int indexOf(int value) {
+        int position = lowerBound(value);
+        return position < size && elements[position] == value ? position : -1;
+    }
+
+    /**
+     * Returns the index at which the specified value would be inserted by {@link #add(int)},
+     * i.e. the number of elements less than or equal to the value.
+     *
+     * @param value the value to rank
+     * @return the insertion index of the value
+     */
+    public int rankOf(int value) {
+        return upperBound(value);
+    }
+
+    /**
+     * Counts the number of occurrences of the specified value.
+     *
+     * @param value the value to count
+     * @return the number of occurrences
+     */
+    public int count(int value) {
+        return upperBound(value) - lowerBound(value);
+    }
+
+    /**
+     * Returns the first (smallest) element in the list.
+     *
+     * @return an OptionalInt containing the first element, or empty if the list is empty
+     */
+    public OptionalInt first() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(elements[0]);
+    }
+
+    /**
+     * Returns the last (largest) element in the list.
+     *
+     * @return an OptionalInt containing the last element, or empty if the list is empty
+     */
+    public OptionalInt last() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(elements[size - 1]);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the list contents as an array.
+     *
+     * @return a new array containing all elements in sorted order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a sequential IntStream with this list as its source.
+     *
+     * @return an IntStream over the elements in this list
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(
+                Spliterators.spliterator(iterator(), size,
+                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    /**
+     * Returns a fail-fast primitive iterator over the elements in this list.
+     * <p>
+     * The iterator will throw {@link ConcurrentModificationException}
+     * if the list is modified after the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntSortedListIterator();
+    }
+
+    /**
+     * Returns the index of the first element not less than the value.
+     */
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element greater than the value.
+     */
+    private int upperBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntSortedList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Integer.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Fail-fast primitive iterator implementation for IntSortedList.
+     */
+    private class IntSortedListIterator implements PrimitiveIterator.OfInt {
+
+        private int cursor;
+        private int lastReturned;
+        private int expectedModCount;
+
+        IntSortedListIterator() {
+            this.cursor = 0;
+            this.lastReturned = -1;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int nextInt() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = cursor;
+            return elements[cursor++];
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            removeRange(lastReturned, lastReturned + 1);
+            cursor = lastReturned;
+            lastReturned = -1;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,709 @@
+package com.shipmonk.collection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.zip.CRC32;
+
+/**
+ * A durable sorted list that records every mutation of a private {@link SortedLinkedList}
+ * in a write-ahead journal.
+ * <p>
+ * {@code add}, {@code addAll}, {@code remove}, {@code removeAll}, {@code removeAt} and
+ * {@code clear} append a compact binary record to an in-memory batch. The batch is written
+ * to the journal file and synced to disk with a single {@code fsync} once it holds
+ * {@code syncEvery} records, when {@link #sync()} is called, and on {@link #close()}
+ * (group commit). Mutations that do not change the list are not recorded. A crash can
+ * therefore lose at most the last {@code syncEvery - 1} mutations, while the cost of an
+ * {@code fsync} is shared by the whole batch; {@code syncEvery = 1} makes every mutation
+ * durable before it returns.
+ * </p>
+ * <p>
+ * Each mutation is recorded in the batch before it is applied to the list. If it fills the
+ * batch and the group commit fails, it throws {@link UncheckedIOException} and has no
+ * effect: the list is unchanged and the mutation is not journaled. Mutations buffered
+ * before it stay buffered and are retried by the next commit.
+ * </p>
+ * <p>
+ * If writing or syncing a batch fails, the journal is truncated back to the end of the
+ * previous batch and the batch is kept, so the next {@link #sync()} retries it without
+ * leaving a torn or duplicated batch behind. If even the truncation fails, or a
+ * {@link #checkpoint()} fails after it may already have replaced the snapshot, the list is
+ * marked failed and every further mutation, sync or checkpoint throws
+ * {@link IllegalStateException}. Reopening the files recovers the last durable state.
+ * </p>
+ *
+ * <h2>Recovery</h2>
+ * <p>
+ * {@link #openIntegers(Path, Path, SearchMode, int)} and {@link #openStrings(Path, Path, SearchMode, int)}
+ * load the snapshot, if one exists, and replay the journal over it. A batch that was only
+ * partially written before a crash fails its checksum and is discarded together with
+ * everything after it. {@link #checkpoint()} writes a new snapshot and starts an empty
+ * journal. The journal header stores the checksum of the snapshot it applies to, so if a
+ * crash occurs after the snapshot was replaced but before the journal was reset, the
+ * outdated journal is recognized and not replayed twice.
+ * </p>
+ * <p>
+ * Journal file layout:
+ * </p>
+ * <pre>
+ * int   magic          "SLLJ"
+ * short version
+ * byte  type           element type, as in snapshots
+ * byte  hasSnapshot    1 if the journal applies on top of a snapshot
+ * int   snapshotCrc    checksum of that snapshot
+ * batch*               int length, int CRC-32, then records:
+ *                      byte op (ADD, REMOVE, REMOVE_ALL, REMOVE_AT, CLEAR) and its operand:
+ *                      an int, or an int length and a string encoded as in snapshots
+ * </pre>
+ * <p>
+ * Queries are delegated directly. The iterator does not support {@code remove()}, since
+ * such removals would bypass the journal. This class is not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedLinkedList#writeSnapshot(Path)
+ */
+public final class JournaledSortedLinkedList<T extends Comparable<T>> implements SortedList<T>, AutoCloseable {
+
+    /**
+     * Default number of mutations per journal batch.
+     */
+    public static final int DEFAULT_SYNC_EVERY = 64;
+
+    private static final int MAGIC = 0x534C4C4A;
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Byte.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int FRAME_BYTES = Integer.BYTES + Integer.BYTES;
+
+    private static final byte OP_ADD = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_REMOVE_ALL = 3;
+    private static final byte OP_REMOVE_AT = 4;
+    private static final byte OP_CLEAR = 5;
+
+    private final SortedLinkedList<T> list;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final byte type;
+    private final int syncEvery;
+    private final ChannelOpener opener;
+    private final ByteArrayOutputStream batch;
+    private final DataOutputStream records;
+    private FileChannel journal;
+    private int pending;
+
+    /**
+     * The error that left the journal in an unknown state, or null.
+     */
+    private IOException failure;
+
+    /**
+     * Opens journal files; tests substitute channels that fail on demand.
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+
+        FileChannel open(Path path, OpenOption... options) throws IOException;
+    }
+
+    /**
+     * Private constructor; instances are created by the open methods after recovery.
+     *
+     * @param list         the recovered list
+     * @param snapshotPath the snapshot file used by {@link #checkpoint()}
+     * @param journalPath  the journal file
+     * @param type         the element type code
+     * @param syncEvery    the number of mutations per batch
+     * @param opener       opens the journal files
+     * @param journal      the journal channel, positioned after the last valid batch
+     */
+    private JournaledSortedLinkedList(SortedLinkedList<T> list, Path snapshotPath, Path journalPath, byte type,
+                                      int syncEvery, ChannelOpener opener, FileChannel journal) {
+        this.list = list;
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.type = type;
+        this.syncEvery = syncEvery;
+        this.opener = opener;
+        this.batch = new ByteArrayOutputStream();
+        this.records = new DataOutputStream(batch);
+        this.journal = journal;
+        this.pending = 0;
+    }
+
+    /**
+     * Opens a journaled list of Integers with the default search mode and batch size.
+     *
+     * @param snapshot the snapshot file; it does not need to exist
+     * @param journal  the journal file; it is created if it does not exist
+     * @return the recovered list
+     * @throws NullPointerException if either path is null
+     * @throws IOException          if the files cannot be read or written, or hold Strings
+     * @see #openIntegers(Path, Path, SearchMode, int)
+     */
+    public static JournaledSortedLinkedList<Integer> openIntegers(Path snapshot, Path journal) throws IOException {
+        return openIntegers(snapshot, journal, SearchMode.LINEAR, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens a journaled list of Integers, recovering its contents from the snapshot and the journal.
+     *
+     * @param snapshot   the snapshot file; it does not need to exist
+     * @param journal    the journal file; it is created if it does not exist
+     * @param searchMode the strategy used to locate positions in the list
+     * @param syncEvery  the number of mutations written and synced together
+     * @return the recovered list
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if {@code syncEvery} is not positive
+     * @throws IOException              if the files cannot be read or written, or hold Strings
+     */
+    public static JournaledSortedLinkedList<Integer> openIntegers(Path snapshot, Path journal, SearchMode searchMode,
+                                                                  int syncEvery) throws IOException {
+        return openIntegers(snapshot, journal, searchMode, syncEvery, FileChannel::open);
+    }
+
+    /**
+     * Opens a journaled list of Integers whose journal files are opened by the given opener.
+     */
+    static JournaledSortedLinkedList<Integer> openIntegers(Path snapshot, Path journal, SearchMode searchMode,
+                                                           int syncEvery, ChannelOpener opener) throws IOException {
+        checkArguments(snapshot, journal, searchMode, syncEvery);
+        SortedLinkedList<Integer> list = Files.exists(snapshot)
+                ? SortedLinkedList.loadIntegerSnapshot(snapshot, searchMode)
+                : SortedLinkedList.ofIntegers(searchMode);
+        return open(list, snapshot, journal, SnapshotFormat.TYPE_INTEGER, syncEvery, opener);
+    }
+
+    /**
+     * Opens a journaled list of Strings with the default search mode and batch size.
+     *
+     * @param snapshot the snapshot file; it does not need to exist
+     * @param journal  the journal file; it is created if it does not exist
+     * @return the recovered list
+     * @throws NullPointerException if either path is null
+     * @throws IOException          if the files cannot be read or written, or hold Integers
+     * @see #openStrings(Path, Path, SearchMode, int)
+     */
+    public static JournaledSortedLinkedList<String> openStrings(Path snapshot, Path journal) throws IOException {
+        return openStrings(snapshot, journal, SearchMode.LINEAR, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens a journaled list of Strings, recovering its contents from the snapshot and the journal.
+     *
+     * @param snapshot   the snapshot file; it does not need to exist
+     * @param journal    the journal file; it is created if it does not exist
+     * @param searchMode the strategy used to locate positions in the list
+     * @param syncEvery  the number of mutations written and synced together
+     * @return the recovered list
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if {@code syncEvery} is not positive
+     * @throws IOException              if the files cannot be read or written, or hold Integers
+     */
+    public static JournaledSortedLinkedList<String> openStrings(Path snapshot, Path journal, SearchMode searchMode,
+                                                                int syncEvery) throws IOException {
+        checkArguments(snapshot, journal, searchMode, syncEvery);
+        SortedLinkedList<String> list = Files.exists(snapshot)
+                ? SortedLinkedList.loadStringSnapshot(snapshot, searchMode)
+                : SortedLinkedList.ofStrings(searchMode);
+        return open(list, snapshot, journal, SnapshotFormat.TYPE_STRING, syncEvery, FileChannel::open);
+    }
+
+    private static void checkArguments(Path snapshot, Path journal, SearchMode searchMode, int syncEvery) {
+        Objects.requireNonNull(snapshot, "Snapshot path cannot be null");
+        Objects.requireNonNull(journal, "Journal path cannot be null");
+        Objects.requireNonNull(searchMode, "Search mode cannot be null");
+        if (syncEvery < 1) {
+            throw new IllegalArgumentException("Sync batch size must be positive: " + syncEvery);
+        }
+    }
+
+    /**
+     * Replays the journal over a list loaded from the snapshot and opens the journal for appending.
+     *
+     * @param list      the list loaded from the snapshot
+     * @param snapshot  the snapshot file
+     * @param journal   the journal file
+     * @param type      the element type code
+     * @param syncEvery the number of mutations per batch
+     * @param opener    opens the journal files
+     * @param <T>       the type of elements
+     * @return the journaled list
+     * @throws IOException if the journal cannot be read or written
+     */
+    private static <T extends Comparable<T>> JournaledSortedLinkedList<T> open(SortedLinkedList<T> list, Path snapshot,
+                                                                               Path journal, byte type, int syncEvery,
+                                                                               ChannelOpener opener)
+            throws IOException {
+        boolean hasSnapshot = Files.exists(snapshot);
+        int snapshotCrc = hasSnapshot ? SnapshotFormat.checksum(snapshot) : 0;
+
+        FileChannel channel = opener.open(journal, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            if (!header.hasRemaining() && isCurrentHeader(header, type, hasSnapshot, snapshotCrc, journal)) {
+                channel.truncate(replay(channel, type, list));
+            } else {
+                // New journal, or one that is already covered by the snapshot
+                channel.truncate(0);
+                channel.write(header(type, hasSnapshot, snapshotCrc), 0);
+                channel.force(true);
+            }
+            channel.position(channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new JournaledSortedLinkedList<>(list, snapshot, journal, type, syncEvery, opener, channel);
+    }
+
+    /**
+     * Checks whether an existing journal header belongs to the current snapshot.
+     *
+     * @return true if the journal must be replayed, false if it is outdated
+     * @throws IOException if the header is not a journal header or has another element type
+     */
+    private static boolean isCurrentHeader(ByteBuffer header, byte type, boolean hasSnapshot, int snapshotCrc,
+                                           Path journal) throws IOException {
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a journal file: " + journal);
+        }
+        short version = header.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal version " + version + ": " + journal);
+        }
+        if (header.get(6) != type) {
+            throw new IOException("Journal holds another element type: " + journal);
+        }
+        boolean journalHasSnapshot = header.get(7) != 0;
+        return journalHasSnapshot == hasSnapshot && (!hasSnapshot || header.getInt(8) == snapshotCrc);
+    }
+
+    private static ByteBuffer header(byte type, boolean hasSnapshot, int snapshotCrc) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).put(type).put((byte) (hasSnapshot ? 1 : 0)).putInt(snapshotCrc);
+        return header.flip();
+    }
+
+    /**
+     * Applies all intact batches of the journal to the list.
+     *
+     * @param channel the journal channel
+     * @param type    the element type code
+     * @param list    the list to apply the records to
+     * @return the file position after the last intact batch
+     * @throws IOException if the journal cannot be read
+     */
+    private static <T extends Comparable<T>> long replay(FileChannel channel, byte type, SortedLinkedList<T> list)
+            throws IOException {
+        long position = HEADER_BYTES;
+        long size = channel.size();
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_BYTES);
+        while (position + FRAME_BYTES <= size) {
+            frame.clear();
+            readFully(channel, frame, position);
+            int length = frame.getInt(0);
+            if (length <= 0 || position + FRAME_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer records = ByteBuffer.allocate(length);
+            readFully(channel, records, position + FRAME_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(records.flip());
+            if ((int) crc.getValue() != frame.getInt(4)) {
+                break;
+            }
+            apply(records.rewind(), type, list);
+            position += FRAME_BYTES + length;
+        }
+        return position;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> void apply(ByteBuffer records, byte type, SortedLinkedList<T> list) {
+        while (records.hasRemaining()) {
+            byte op = records.get();
+            switch (op) {
+                case OP_ADD -> list.add((T) readValue(records, type));
+                case OP_REMOVE -> list.remove((T) readValue(records, type));
+                case OP_REMOVE_ALL -> list.removeAll((T) readValue(records, type));
+                case OP_REMOVE_AT -> list.removeAt(records.getInt());
+                case OP_CLEAR -> list.clear();
+                default -> throw new IllegalStateException("Unknown journal record type " + op);
+            }
+        }
+    }
+
+    private static Object readValue(ByteBuffer records, byte type) {
+        if (type == SnapshotFormat.TYPE_INTEGER) {
+            return records.getInt();
+        }
+        return SnapshotFormat.decodeString(records, records.getInt());
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void add(T value) {
+        checkOpen();
+        Objects.requireNonNull(value, "Value cannot be null");
+        journal(() -> record(OP_ADD, value));
+        list.add(value);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> values) {
+        checkOpen();
+        Objects.requireNonNull(values, "Values cannot be null");
+        for (T value : values) {
+            Objects.requireNonNull(value, "Value cannot be null");
+        }
+        journal(() -> {
+            for (T value : values) {
+                record(OP_ADD, value);
+            }
+        });
+        list.addAll(values);
+    }
+
+    @Override
+    public boolean remove(T value) {
+        checkOpen();
+        if (!list.contains(value)) {
+            return false;
+        }
+        journal(() -> record(OP_REMOVE, value));
+        return list.remove(value);
+    }
+
+    @Override
+    public int removeAll(T value) {
+        checkOpen();
+        if (list.count(value) == 0) {
+            return 0;
+        }
+        journal(() -> record(OP_REMOVE_ALL, value));
+        return list.removeAll(value);
+    }
+
+    @Override
+    public T removeAt(int index) {
+        checkOpen();
+        Objects.checkIndex(index, list.size());
+        journal(() -> recordIndex(index));
+        return list.removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        journal(() -> record(OP_CLEAR));
+        list.clear();
+    }
+
+    /**
+     * Appends the records of a mutation to the batch and commits the batch if it is full.
+     * <p>
+     * Called before the mutation is applied to the list. If the commit fails, the records
+     * are dropped from the batch again, so the batch only ever describes mutations that
+     * were applied; mutations buffered earlier stay buffered for the next attempt.
+     * </p>
+     *
+     * @param step appends the records
+     * @throws UncheckedIOException if the batch is full and cannot be committed
+     */
+    private void journal(Runnable step) {
+        int mark = batch.size();
+        int pendingBefore = pending;
+        step.run();
+        if (pending >= syncEvery) {
+            try {
+                sync();
+            } catch (IOException e) {
+                byte[] kept = Arrays.copyOf(batch.toByteArray(), mark);
+                batch.reset();
+                batch.write(kept, 0, mark);
+                pending = pendingBefore;
+                throw new UncheckedIOException("Cannot write journal " + journalPath, e);
+            }
+        }
+    }
+
+    /**
+     * Appends a record with a value operand to the current batch.
+     *
+     * @param op    the operation code
+     * @param value the operand
+     */
+    private void record(byte op, T value) {
+        try {
+            records.writeByte(op);
+            if (type == SnapshotFormat.TYPE_INTEGER) {
+                records.writeInt((Integer) value);
+            } else {
+                byte[] bytes = SnapshotFormat.encodeString((String) value);
+                records.writeInt(bytes.length);
+                records.write(bytes);
+            }
+        } catch (IOException e) {
+            // Writes to a ByteArrayOutputStream cannot fail
+            throw new UncheckedIOException(e);
+        }
+        pending++;
+    }
+
+    /**
+     * Appends a record without operand to the current batch.
+     *
+     * @param op the operation code
+     */
+    private void record(byte op) {
+        try {
+            records.writeByte(op);
+        } catch (IOException e) {
+            // Writes to a ByteArrayOutputStream cannot fail
+            throw new UncheckedIOException(e);
+        }
+        pending++;
+    }
+
+    /**
+     * Appends a removeAt record to the current batch.
+     *
+     * @param index the removed index
+     */
+    private void recordIndex(int index) {
+        try {
+            records.writeByte(OP_REMOVE_AT);
+            records.writeInt(index);
+        } catch (IOException e) {
+            // Writes to a ByteArrayOutputStream cannot fail
+            throw new UncheckedIOException(e);
+        }
+        pending++;
+    }
+
+    /**
+     * Writes all buffered mutations to the journal as one batch and syncs it to disk.
+     * <p>
+     * If this fails, the partially written batch is truncated away and the mutations stay
+     * buffered for the next call.
+     * </p>
+     *
+     * @throws IOException           if the journal cannot be written
+     * @throws IllegalStateException if the list is closed or has failed
+     */
+    public void sync() throws IOException {
+        checkOpen();
+        if (pending == 0) {
+            return;
+        }
+        byte[] bytes = batch.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_BYTES + bytes.length);
+        frame.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+
+        long start = journal.position();
+        try {
+            while (frame.hasRemaining()) {
+                journal.write(frame);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            rollback(start, e);
+            throw e;
+        }
+        batch.reset();
+        pending = 0;
+    }
+
+    /**
+     * Truncates the journal to the end of the last committed batch after a failed write or sync.
+     * Marks the list failed if that is not possible either.
+     *
+     * @param start the journal position before the failed batch
+     * @param cause the error of the failed batch
+     */
+    private void rollback(long start, IOException cause) {
+        try {
+            journal.truncate(start);
+            journal.position(start);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+        }
+    }
+
+    /**
+     * Writes the current contents to the snapshot file and starts an empty journal.
+     * <p>
+     * The new journal is prepared in a temporary file and atomically moved over the old one,
+     * and the directory is synced after each rename. If any step fails, the old journal may
+     * no longer belong to the snapshot on disk, so the list is marked failed instead of
+     * appending mutations that recovery would discard; reopen it to continue.
+     * </p>
+     *
+     * @throws IOException           if the snapshot or the journal cannot be written
+     * @throws IllegalStateException if the list is closed or has failed
+     */
+    public void checkpoint() throws IOException {
+        sync();
+
+        FileChannel fresh = null;
+        try {
+            list.writeSnapshot(snapshotPath);
+            Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+            fresh = opener.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            fresh.write(header(type, true, SnapshotFormat.checksum(snapshotPath)));
+            fresh.force(true);
+            Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            SnapshotFormat.syncDirectory(journalPath.toAbsolutePath().getParent());
+        } catch (IOException | RuntimeException e) {
+            if (fresh != null) {
+                fresh.close();
+            }
+            failure = e instanceof IOException io ? io : new IOException(e);
+            throw e;
+        }
+        journal.close();
+        journal = fresh;
+    }
+
+    /**
+     * Syncs all buffered mutations and closes the journal. Closing twice has no effect.
+     *
+     * @throws IOException if the journal cannot be written, or has failed with mutations still buffered
+     */
+    @Override
+    public void close() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (failure != null) {
+                if (pending > 0) {
+                    throw new IOException("Journal failed, buffered mutations were not written: " + journalPath,
+                            failure);
+                }
+                return;
+            }
+            sync();
+        } finally {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void checkOpen() {
+        if (journal == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Journal failed, reopen the list to recover: " + journalPath, failure);
+        }
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return list.contains(value);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int indexOf(T value) {
+        return list.indexOf(value);
+    }
+
+    @Override
+    public int rankOf(T value) {
+        return list.rankOf(value);
+    }
+
+    @Override
+    public int count(T value) {
+        return list.count(value);
+    }
+
+    @Override
+    public Optional<T> first() {
+        return list.first();
+    }
+
+    @Override
+    public Optional<T> last() {
+        return list.last();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public List<T> toList() {
+        return list.toList();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return list.spliterator();
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * The iterator does not support {@code remove()}.
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = list.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
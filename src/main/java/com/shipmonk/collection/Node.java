@@ -8,7 +8,7 @@ package com.shipmonk.collection;
  */
 final class Node<T> {
 
-    private final T value;
+    private T value;
     private Node<T> next;
     private Node<T> prev;
 
@@ -30,6 +30,16 @@ final class Node<T> {
         return value;
     }
 
+    /**
+     * Replaces the value stored in this node.
+     * The caller is responsible for relinking the node at its new sorted position.
+     *
+     * @param value the new value (must not be null)
+     */
+    void setValue(T value) {
+        this.value = value;
+    }
+
     /**
      * Returns the next node in the list.
      *
@@ -0,0 +1,131 @@
+package com.shipmonk.collection;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Bounded pool of unlinked {@link Node} objects owned by a single {@link SortedLinkedList}.
+ * <p>
+ * Removed nodes are pushed onto a stack and handed out again by later inserts, so that
+ * workloads with a steady stream of inserts and removals stop allocating new nodes.
+ * The list clears the links of every removed node and the pool clears the value of
+ * every pooled node, so a pooled node never keeps an element or a live node reachable.
+ * Once the pool holds its capacity, further released nodes are left to the garbage
+ * collector.
+ * </p>
+ * <p>
+ * Nodes referenced by an {@link ElementHandle} are pinned and never recycled: reusing
+ * them would make a stale handle look valid again.
+ * </p>
+ *
+ * @param <T> the type of values stored in the pooled nodes
+ */
+final class NodePool<T> {
+
+    private final Node<T>[] nodes;
+    private final Set<Node<T>> pinned;
+    private int count;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a new empty pool.
+     *
+     * @param capacity the maximum number of nodes kept for reuse
+     */
+    @SuppressWarnings("unchecked")
+    NodePool(int capacity) {
+        this.nodes = (Node<T>[]) new Node[capacity];
+        this.pinned = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.count = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * Returns a node holding the value, reusing a pooled node if one is available.
+     *
+     * @param value the value to store
+     * @return an unlinked node holding the value
+     */
+    Node<T> obtain(T value) {
+        if (count == 0) {
+            misses++;
+            return new Node<>(value);
+        }
+        hits++;
+        Node<T> node = nodes[--count];
+        nodes[count] = null;
+        node.setValue(value);
+        return node;
+    }
+
+    /**
+     * Takes back a node that has just been unlinked from the chain.
+     *
+     * @param node the unlinked node
+     */
+    void release(Node<T> node) {
+        if (!pinned.isEmpty() && pinned.remove(node)) {
+            // The handle keeps reporting the value of its removed element
+            return;
+        }
+        if (count < nodes.length) {
+            node.setValue(null);
+            nodes[count++] = node;
+        }
+    }
+
+    /**
+     * Excludes a node from recycling because a handle to it has been issued.
+     *
+     * @param node the node referenced by a handle
+     */
+    void pin(Node<T> node) {
+        pinned.add(node);
+    }
+
+    /**
+     * Forgets all pinned nodes. Called when the list is cleared, which invalidates all handles.
+     */
+    void unpinAll() {
+        pinned.clear();
+    }
+
+    /**
+     * Returns the maximum number of nodes kept for reuse.
+     *
+     * @return the pool capacity
+     */
+    int capacity() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of nodes currently available for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Returns the number of inserts that reused a pooled node.
+     *
+     * @return the hit count
+     */
+    long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of inserts that had to allocate a new node.
+     *
+     * @return the miss count
+     */
+    long misses() {
+        return misses;
+    }
+}
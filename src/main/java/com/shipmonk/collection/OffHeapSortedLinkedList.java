@@ -0,0 +1,947 @@
+package com.shipmonk.collection;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A sorted linked list whose nodes and values are stored outside the Java heap.
+ * <p>
+ * Nodes live in a direct {@link ByteBuffer} as fixed 12-byte records holding the
+ * {@code next} and {@code prev} slot indices and a 4-byte payload. For Integer lists
+ * the payload is the value itself. For String lists the payload is the offset of the
+ * value in a second direct buffer, where strings are stored as a 4-byte length followed
+ * by their UTF-8 bytes. Neither the elements nor the links are Java objects, so the
+ * list contents do not count against the heap and are never scanned by the garbage
+ * collector. Searches compare stored strings by decoding their bytes in place; values
+ * are materialized as {@code Integer} or {@code String} objects only when they are
+ * returned.
+ * </p>
+ * <p>
+ * Freed node slots are reused through a free-list. Space of removed strings is reclaimed
+ * by compacting the string buffer once more than half of it is garbage. Each buffer is
+ * limited to 2 GB, which bounds a list to about 178 million elements.
+ * </p>
+ * <p>
+ * The list must be released with {@link #close()}. Afterwards every operation throws
+ * {@link IllegalStateException}. Otherwise the list behaves like {@link SortedLinkedList}
+ * in its default {@link SearchMode#LINEAR} mode.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <ul>
+ *   <li>add(T)/remove(T)/contains(T)/indexOf(T)/rankOf(T): O(n), O(1) at either end for add</li>
+ *   <li>get(int)/removeAt(int): O(n) - optimized to traverse from nearest end</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class OffHeapSortedLinkedList<T extends Comparable<T>> implements SortedList<T>, AutoCloseable {
+
+    /**
+     * Default number of node slots allocated by the factory methods.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 1_024;
+
+    /**
+     * Slot index standing for "no slot", used as the null link.
+     */
+    private static final int NIL = -1;
+
+    private static final int NODE_BYTES = 12;
+    private static final int NEXT = 0;
+    private static final int PREV = 4;
+    private static final int PAYLOAD = 8;
+
+    private final ValueCodec<T> codec;
+    private ByteBuffer nodes;
+    private int head;
+    private int tail;
+    private int size;
+    private int modCount;
+    private int used;
+    private int freeHead;
+    private boolean closed;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     * This ensures only String or Integer types can be used.
+     *
+     * @param codec           the encoding of values into node payloads
+     * @param initialCapacity the number of node slots to allocate up front
+     */
+    private OffHeapSortedLinkedList(ValueCodec<T> codec, int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > Integer.MAX_VALUE / NODE_BYTES) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        this.codec = codec;
+        this.nodes = ByteBuffer.allocateDirect(initialCapacity * NODE_BYTES);
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.modCount = 0;
+        this.used = 0;
+        this.freeHead = NIL;
+        this.closed = false;
+    }
+
+    /**
+     * Creates a new empty off-heap sorted linked list for String values.
+     *
+     * @return a new empty OffHeapSortedLinkedList for Strings
+     */
+    public static OffHeapSortedLinkedList<String> ofStrings() {
+        return ofStrings(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty off-heap sorted linked list for String values.
+     *
+     * @param initialCapacity the number of node slots to allocate up front
+     * @return a new empty OffHeapSortedLinkedList for Strings
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public static OffHeapSortedLinkedList<String> ofStrings(int initialCapacity) {
+        return new OffHeapSortedLinkedList<>(new StringCodec(initialCapacity), initialCapacity);
+    }
+
+    /**
+     * Creates a new empty off-heap sorted linked list for Integer values.
+     *
+     * @return a new empty OffHeapSortedLinkedList for Integers
+     */
+    public static OffHeapSortedLinkedList<Integer> ofIntegers() {
+        return ofIntegers(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty off-heap sorted linked list for Integer values.
+     *
+     * @param initialCapacity the number of node slots to allocate up front
+     * @return a new empty OffHeapSortedLinkedList for Integers
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public static OffHeapSortedLinkedList<Integer> ofIntegers(int initialCapacity) {
+        return new OffHeapSortedLinkedList<>(new IntCodec(), initialCapacity);
+    }
+
+    @Override
+    public void add(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        // Store the value first, so that a failure leaves no slot behind
+        int payload = codec.store(value);
+        int slot;
+        try {
+            slot = allocate();
+        } catch (RuntimeException | OutOfMemoryError e) {
+            // Buffer limit exceeded or direct memory exhausted
+            codec.free(payload);
+            throw e;
+        }
+        setPayload(slot, payload);
+        modCount++;
+
+        if (head == NIL || compare(head, value) > 0) {
+            // Insert at head
+            linkAfter(NIL, slot);
+        } else if (compare(tail, value) <= 0) {
+            // Insert at tail
+            linkAfter(tail, slot);
+        } else {
+            // Insert in the middle - find the correct position
+            int current = head;
+            while (compare(current, value) <= 0) {
+                current = next(current);
+            }
+            linkAfter(prev(current), slot);
+        }
+        size++;
+    }
+
+    /**
+     * Internal helper method to take a slot from the free-list, or a fresh one.
+     *
+     * @return the slot index
+     */
+    private int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next(slot);
+            return slot;
+        }
+        if ((long) (used + 1) * NODE_BYTES > nodes.capacity()) {
+            nodes = grow(nodes, (long) (used + 1) * NODE_BYTES);
+        }
+        return used++;
+    }
+
+    /**
+     * Internal helper method to link a slot into the chain.
+     *
+     * @param after the slot after which to link, or {@link #NIL} to link at the head
+     * @param slot  the slot to link
+     */
+    private void linkAfter(int after, int slot) {
+        int following = after == NIL ? head : next(after);
+        setPrev(slot, after);
+        setNext(slot, following);
+
+        if (after == NIL) {
+            head = slot;
+        } else {
+            setNext(after, slot);
+        }
+
+        if (following == NIL) {
+            tail = slot;
+        } else {
+            setPrev(following, slot);
+        }
+    }
+
+    @Override
+    public boolean remove(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int slot = lowerBound(value);
+        if (slot == NIL || compare(slot, value) != 0) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    @Override
+    public int removeAll(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int removedCount = 0;
+        int current = lowerBound(value);
+        while (current != NIL && compare(current, value) == 0) {
+            int following = next(current);
+            removeSlot(current);
+            removedCount++;
+            current = following;
+        }
+        return removedCount;
+    }
+
+    @Override
+    public T removeAt(int index) {
+        checkOpen();
+        checkIndex(index);
+        int slot = slotAt(index);
+        T value = valueAt(slot);
+        removeSlot(slot);
+        return value;
+    }
+
+    /**
+     * Internal helper method to unlink a slot, release its payload and return it to the free-list.
+     *
+     * @param slot the slot to remove
+     */
+    private void removeSlot(int slot) {
+        modCount++;
+        int before = prev(slot);
+        int after = next(slot);
+
+        if (before != NIL) {
+            setNext(before, after);
+        } else {
+            head = after;
+        }
+
+        if (after != NIL) {
+            setPrev(after, before);
+        } else {
+            tail = before;
+        }
+
+        setNext(slot, freeHead);
+        freeHead = slot;
+        size--;
+        codec.free(payload(slot));
+        if (codec.needsCompaction()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the payloads of all linked slots into a fresh string buffer, dropping freed space.
+     */
+    private void compact() {
+        codec.beginCompaction();
+        for (int current = head; current != NIL; current = next(current)) {
+            setPayload(current, codec.relocate(payload(current)));
+        }
+        codec.endCompaction();
+    }
+
+    @Override
+    public boolean contains(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int slot = lowerBound(value);
+        return slot != NIL && compare(slot, value) == 0;
+    }
+
+    @Override
+    public T get(int index) {
+        checkOpen();
+        checkIndex(index);
+        return valueAt(slotAt(index));
+    }
+
+    /**
+     * Returns the slot at the specified index, traversing from the nearest end.
+     *
+     * @param index the index of the slot to return
+     * @return the slot at the specified index
+     */
+    private int slotAt(int index) {
+        int current;
+        if (index < size / 2) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = next(current);
+            }
+        } else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = prev(current);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int index = 0;
+        for (int current = head; current != NIL; current = next(current)) {
+            int cmp = compare(current, value);
+            if (cmp == 0) {
+                return index;
+            } else if (cmp > 0) {
+                return -1;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int rankOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int rank = 0;
+        for (int current = head; current != NIL && compare(current, value) <= 0; current = next(current)) {
+            rank++;
+        }
+        return rank;
+    }
+
+    @Override
+    public int count(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        checkOpen();
+
+        int occurrences = 0;
+        for (int current = lowerBound(value); current != NIL && compare(current, value) == 0; current = next(current)) {
+            occurrences++;
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first slot whose value is not less than the value.
+     *
+     * @param value the value being searched for
+     * @return the slot, or {@link #NIL} if every value is less than the value
+     */
+    private int lowerBound(T value) {
+        int current = head;
+        while (current != NIL && compare(current, value) < 0) {
+            current = next(current);
+        }
+        return current;
+    }
+
+    @Override
+    public Optional<T> first() {
+        checkOpen();
+        return head == NIL ? Optional.empty() : Optional.of(valueAt(head));
+    }
+
+    @Override
+    public Optional<T> last() {
+        checkOpen();
+        return tail == NIL ? Optional.empty() : Optional.of(valueAt(tail));
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     * <p>
+     * The off-heap buffers keep their capacity; all space becomes available again.
+     * </p>
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        freeHead = NIL;
+        codec.clear();
+        modCount++;
+    }
+
+    /**
+     * Releases the off-heap buffers of this list.
+     * <p>
+     * After closing, every operation except {@code close()} throws {@link IllegalStateException}.
+     * The native memory is returned once the buffers become unreachable. Closing an already
+     * closed list has no effect.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nodes = null;
+        codec.close();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public List<T> toList() {
+        checkOpen();
+        List<T> result = new ArrayList<>(size);
+        for (int current = head; current != NIL; current = next(current)) {
+            result.add(valueAt(current));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * The iterator will throw {@link ConcurrentModificationException}
+     * if the list is modified or closed after the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new OffHeapIterator();
+    }
+
+    private int compare(int slot, T value) {
+        return codec.compare(payload(slot), value);
+    }
+
+    private T valueAt(int slot) {
+        return codec.load(payload(slot));
+    }
+
+    private int next(int slot) {
+        return nodes.getInt(slot * NODE_BYTES + NEXT);
+    }
+
+    private void setNext(int slot, int next) {
+        nodes.putInt(slot * NODE_BYTES + NEXT, next);
+    }
+
+    private int prev(int slot) {
+        return nodes.getInt(slot * NODE_BYTES + PREV);
+    }
+
+    private void setPrev(int slot, int prev) {
+        nodes.putInt(slot * NODE_BYTES + PREV, prev);
+    }
+
+    private int payload(int slot) {
+        return nodes.getInt(slot * NODE_BYTES + PAYLOAD);
+    }
+
+    private void setPayload(int slot, int payload) {
+        nodes.putInt(slot * NODE_BYTES + PAYLOAD, payload);
+    }
+
+    /**
+     * Copies a buffer into a new direct buffer of at least the required capacity.
+     *
+     * @param buffer   the buffer to grow
+     * @param required the minimum capacity in bytes
+     * @return the new buffer
+     * @throws IllegalStateException if the required capacity exceeds the 2 GB buffer limit
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, long required) {
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap buffer cannot exceed " + Integer.MAX_VALUE + " bytes");
+        }
+        long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, buffer.capacity() + (long) (buffer.capacity() >> 1)));
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        grown.put(buffer.duplicate().clear());
+        grown.clear();
+        return grown;
+    }
+
+    /**
+     * Validates that the list has not been closed.
+     *
+     * @throws IllegalStateException if the list is closed
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[closed]";
+        }
+        return toList().toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OffHeapSortedLinkedList<?> other)) {
+            return false;
+        }
+        if (this.closed || other.closed || this.size != other.size) {
+            return false;
+        }
+
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> otherIterator = other.iterator();
+
+        while (thisIterator.hasNext()) {
+            if (!thisIterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        if (closed) {
+            return 0;
+        }
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Encoding of values into the 4-byte payload of a node.
+     *
+     * @param <T> the type of values
+     */
+    private interface ValueCodec<T> {
+
+        /**
+         * Stores a value and returns the payload referencing it.
+         */
+        int store(T value);
+
+        /**
+         * Materializes the value referenced by a payload.
+         */
+        T load(int payload);
+
+        /**
+         * Compares the value referenced by a payload with a value.
+         */
+        int compare(int payload, T value);
+
+        /**
+         * Releases the storage referenced by a payload of a removed node.
+         */
+        void free(int payload);
+
+        /**
+         * Checks whether enough storage has been freed to be worth compacting.
+         */
+        boolean needsCompaction();
+
+        void beginCompaction();
+
+        /**
+         * Moves the value referenced by a payload into the compacted storage and returns its new payload.
+         */
+        int relocate(int payload);
+
+        void endCompaction();
+
+        void clear();
+
+        void close();
+    }
+
+    /**
+     * Stores int values directly in the payload.
+     */
+    private static final class IntCodec implements ValueCodec<Integer> {
+
+        @Override
+        public int store(Integer value) {
+            return value;
+        }
+
+        @Override
+        public Integer load(int payload) {
+            return payload;
+        }
+
+        @Override
+        public int compare(int payload, Integer value) {
+            return Integer.compare(payload, value);
+        }
+
+        @Override
+        public void free(int payload) {
+        }
+
+        @Override
+        public boolean needsCompaction() {
+            return false;
+        }
+
+        @Override
+        public void beginCompaction() {
+        }
+
+        @Override
+        public int relocate(int payload) {
+            return payload;
+        }
+
+        @Override
+        public void endCompaction() {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Stores strings as a 4-byte length followed by UTF-8 bytes; the payload is the record offset.
+     * <p>
+     * Unpaired surrogates are encoded as 3-byte sequences of their own, as in WTF-8, so every
+     * string round-trips exactly. Comparisons decode the stored bytes back into UTF-16 units
+     * one at a time and compare them with the probe's chars, which gives the same order as
+     * {@link String#compareTo(String)} without allocating.
+     * </p>
+     */
+    private static final class StringCodec implements ValueCodec<String> {
+
+        /**
+         * Buffers smaller than this are never compacted.
+         */
+        private static final int MIN_COMPACTION_BYTES = 4_096;
+
+        private ByteBuffer data;
+        private ByteBuffer compacted;
+        private int used;
+        private int garbage;
+
+        StringCodec(int initialCapacity) {
+            this.data = ByteBuffer.allocateDirect(Math.max(64, Math.min(initialCapacity, Integer.MAX_VALUE / 16) * 16));
+            this.used = 0;
+            this.garbage = 0;
+        }
+
+        @Override
+        public int store(String value) {
+            int length = encodedLength(value);
+            long required = (long) used + Integer.BYTES + length;
+            if (required > data.capacity()) {
+                data = grow(data, required);
+            }
+            int offset = used;
+            data.putInt(offset, length);
+            int position = offset + Integer.BYTES;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    data.put(position++, (byte) c);
+                } else if (c < 0x800) {
+                    data.put(position++, (byte) (0xC0 | (c >> 6)));
+                    data.put(position++, (byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    data.put(position++, (byte) (0xF0 | (codePoint >> 18)));
+                    data.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    data.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    data.put(position++, (byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    data.put(position++, (byte) (0xE0 | (c >> 12)));
+                    data.put(position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                    data.put(position++, (byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            used = (int) required;
+            return offset;
+        }
+
+        /**
+         * Returns the number of bytes a string occupies in the encoding used by {@link #store(String)}.
+         */
+        private static int encodedLength(String value) {
+            long length = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            if (length > Integer.MAX_VALUE - Integer.BYTES) {
+                throw new IllegalStateException("String of " + length + " bytes exceeds the buffer limit");
+            }
+            return (int) length;
+        }
+
+        @Override
+        public String load(int payload) {
+            int position = payload + Integer.BYTES;
+            int end = position + data.getInt(payload);
+            // A string never has more UTF-16 units than encoded bytes
+            char[] chars = new char[end - position];
+            int count = 0;
+            while (position < end) {
+                int codePoint = decode(position);
+                position += sequenceLength(data.get(position));
+                count += Character.toChars(codePoint, chars, count);
+            }
+            return new String(chars, 0, count);
+        }
+
+        @Override
+        public int compare(int payload, String value) {
+            int position = payload + Integer.BYTES;
+            int end = position + data.getInt(payload);
+            int index = 0;
+            while (position < end) {
+                int codePoint = decode(position);
+                position += sequenceLength(data.get(position));
+                if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    int cmp = compareUnit(Character.highSurrogate(codePoint), value, index++);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                    codePoint = Character.lowSurrogate(codePoint);
+                }
+                int cmp = compareUnit((char) codePoint, value, index++);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return index - value.length();
+        }
+
+        /**
+         * Compares a stored UTF-16 unit with the unit at an index of a string; a string that has ended sorts first.
+         */
+        private static int compareUnit(char unit, String value, int index) {
+            return index == value.length() ? 1 : unit - value.charAt(index);
+        }
+
+        /**
+         * Returns the number of bytes of the sequence starting with a lead byte.
+         */
+        private static int sequenceLength(byte lead) {
+            int b = lead & 0xFF;
+            if (b < 0x80) {
+                return 1;
+            }
+            if (b < 0xE0) {
+                return 2;
+            }
+            return b < 0xF0 ? 3 : 4;
+        }
+
+        /**
+         * Decodes the code point, or unpaired surrogate, of the sequence at a buffer position.
+         */
+        private int decode(int position) {
+            int b = data.get(position) & 0xFF;
+            return switch (sequenceLength((byte) b)) {
+                case 1 -> b;
+                case 2 -> ((b & 0x1F) << 6) | (data.get(position + 1) & 0x3F);
+                case 3 -> ((b & 0x0F) << 12) | ((data.get(position + 1) & 0x3F) << 6)
+                        | (data.get(position + 2) & 0x3F);
+                default -> ((b & 0x07) << 18) | ((data.get(position + 1) & 0x3F) << 12)
+                        | ((data.get(position + 2) & 0x3F) << 6) | (data.get(position + 3) & 0x3F);
+            };
+        }
+
+        @Override
+        public void free(int payload) {
+            garbage += Integer.BYTES + data.getInt(payload);
+        }
+
+        @Override
+        public boolean needsCompaction() {
+            return used >= MIN_COMPACTION_BYTES && garbage > used / 2;
+        }
+
+        @Override
+        public void beginCompaction() {
+            compacted = ByteBuffer.allocateDirect(Math.max(64, used - garbage));
+        }
+
+        @Override
+        public int relocate(int payload) {
+            int length = Integer.BYTES + data.getInt(payload);
+            int offset = compacted.position();
+            compacted.put(data.slice(payload, length));
+            return offset;
+        }
+
+        @Override
+        public void endCompaction() {
+            used = compacted.position();
+            garbage = 0;
+            data = compacted.clear();
+            compacted = null;
+        }
+
+        @Override
+        public void clear() {
+            used = 0;
+            garbage = 0;
+        }
+
+        @Override
+        public void close() {
+            data = null;
+        }
+    }
+
+    /**
+     * Fail-fast iterator implementation for OffHeapSortedLinkedList.
+     */
+    private class OffHeapIterator implements Iterator<T> {
+
+        private int current;
+        private int lastReturned;
+        private int expectedModCount;
+
+        OffHeapIterator() {
+            this.current = head;
+            this.lastReturned = NIL;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != NIL;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = current;
+            current = OffHeapSortedLinkedList.this.next(current);
+            return valueAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NIL) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            removeSlot(lastReturned);
+            lastReturned = NIL;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
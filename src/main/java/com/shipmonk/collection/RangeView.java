@@ -0,0 +1,137 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, read-only view of the elements of a {@link SortedLinkedList} within a value range.
+ * <p>
+ * Views are created by {@link SortedLinkedList#range(Comparable, Comparable)},
+ * {@link SortedLinkedList#headRange(Comparable)} and {@link SortedLinkedList#tailRange(Comparable)}.
+ * The lower bound is inclusive and the upper bound is exclusive; a missing bound means
+ * the range is open on that side.
+ * </p>
+ * <p>
+ * A view holds no elements. Every traversal seeks to the lower bound once and walks the
+ * node chain until it reaches the upper bound, so it always reflects the current contents
+ * of the list. A traversal is fail-fast: it throws {@link ConcurrentModificationException}
+ * if the list is structurally modified after it started. The iterator does not support
+ * {@code remove()}.
+ * </p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public final class RangeView<T extends Comparable<T>> implements Iterable<T> {
+
+    private final SortedLinkedList<T> list;
+    private final T from;
+    private final T to;
+
+    /**
+     * Creates a view over the given list. Bounds are validated by the list.
+     *
+     * @param list the backing list
+     * @param from the inclusive lower bound, or null for no lower bound
+     * @param to   the exclusive upper bound, or null for no upper bound
+     */
+    RangeView(SortedLinkedList<T> list, T from, T to) {
+        this.list = list;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in the range, in sorted order.
+     *
+     * @return an iterator over the elements in the range
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RangeIterator();
+    }
+
+    /**
+     * Returns a sequential Stream over the elements in the range.
+     * <p>
+     * The seek to the lower bound is deferred until the terminal operation starts.
+     * </p>
+     *
+     * @return a Stream over the elements in the range
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                () -> Spliterators.spliteratorUnknownSize(iterator(),
+                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL,
+                false
+        );
+    }
+
+    /**
+     * Returns a copy of the elements in the range as an ArrayList.
+     *
+     * @return a new ArrayList containing the elements in the range in sorted order
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>();
+        for (T element : this) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the range contains no elements.
+     *
+     * @return true if no element of the list falls within the range
+     */
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Fail-fast iterator that starts at the lower bound and stops before the upper bound.
+     */
+    private class RangeIterator implements Iterator<T> {
+
+        private Node<T> current;
+        private final int expectedModCount;
+
+        RangeIterator() {
+            this.current = list.lowerBound(from);
+            this.expectedModCount = list.modCount();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null && (to == null || current.getValue().compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (list.modCount() != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            T value = current.getValue();
+            current = current.getNext();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,1134 @@
+package com.shipmonk.collection;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A sorted list of Integers stored as a Roaring-style set of containers.
+ * <p>
+ * Every value is split into its upper and lower 16 bits. The upper bits select a
+ * container, found by binary search in a sorted key array; the lower bits are stored in
+ * that container in one of three representations:
+ * </p>
+ * <ul>
+ *   <li>array container - a sorted {@code char[]} of up to 4096 values, 2 bytes per value</li>
+ *   <li>bitmap container - a fixed 8 KB bitmap of all 65536 possible values, used once a
+ *       container holds more than 4096 values</li>
+ *   <li>run container - sorted runs of consecutive values, created by {@link #runOptimize()}
+ *       where they are smaller than the other two</li>
+ * </ul>
+ * <p>
+ * Containers hold every distinct value once; a value added repeatedly gets an extra
+ * occurrence count in a small per-container table. {@link #size()}, indices and iteration
+ * count every occurrence, like {@link SortedLinkedList}. Dense ranges, such as millions of
+ * consecutive order IDs, cost about one bit per value in bitmaps, or a few bytes per range
+ * after {@link #runOptimize()}, and {@link #contains(Integer)} is a key lookup followed by a
+ * single bit test. {@link #and(RoaringSortedList)} intersects two lists container by
+ * container, combining bitmaps a 64-bit word at a time.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <p>
+ * With k containers (at most 65536):
+ * </p>
+ * <ul>
+ *   <li>contains(Integer)/count(Integer): O(log k), plus O(log 4096) in array containers</li>
+ *   <li>add(Integer)/remove(Integer): O(log k), plus O(4096) array shifts in array containers</li>
+ *   <li>get(int)/indexOf(Integer)/rankOf(Integer)/removeAt(int): O(k) plus one container rank or select</li>
+ *   <li>first()/last(): O(1) for array and run containers; size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * @see SortedList
+ * @see #ofIntegers()
+ */
+public final class RoaringSortedList implements SortedList<Integer> {
+
+    /**
+     * Largest number of values held by an array container.
+     */
+    static final int ARRAY_CONTAINER_MAX = 4096;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private char[] keys;
+    private Container[] containers;
+    private Duplicates[] duplicates;
+
+    /**
+     * Number of elements per container, including duplicate occurrences.
+     */
+    private int[] sizes;
+
+    private int containerCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     */
+    private RoaringSortedList() {
+        this.keys = new char[INITIAL_CAPACITY];
+        this.containers = new Container[INITIAL_CAPACITY];
+        this.duplicates = new Duplicates[INITIAL_CAPACITY];
+        this.sizes = new int[INITIAL_CAPACITY];
+        this.containerCount = 0;
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates a new empty container-based sorted list for Integer values.
+     *
+     * @return a new empty RoaringSortedList
+     */
+    public static RoaringSortedList ofIntegers() {
+        return new RoaringSortedList();
+    }
+
+    /**
+     * Maps a value to an unsigned int whose unsigned order matches the signed order of the values.
+     */
+    private static int unsigned(int value) {
+        return value ^ Integer.MIN_VALUE;
+    }
+
+    private static int keyOf(int value) {
+        return unsigned(value) >>> 16;
+    }
+
+    private static int lowOf(int value) {
+        return unsigned(value) & 0xFFFF;
+    }
+
+    private static int valueOf(int key, int low) {
+        return ((key << 16) | low) ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the slot of a container key, or {@code -(insertion point) - 1} if there is none.
+     */
+    private int slotOf(int key) {
+        return Arrays.binarySearch(keys, 0, containerCount, (char) key);
+    }
+
+    @Override
+    public void add(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int key = keyOf(value);
+        int low = lowOf(value);
+
+        int slot = slotOf(key);
+        if (slot < 0) {
+            slot = -slot - 1;
+            insertSlot(slot, key);
+        }
+        Container container = containers[slot];
+        if (container.contains(low)) {
+            if (duplicates[slot] == null) {
+                duplicates[slot] = new Duplicates();
+            }
+            duplicates[slot].increment(low);
+        } else {
+            containers[slot] = container.add(low);
+        }
+        sizes[slot]++;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean remove(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        int low = lowOf(value);
+        if (slot < 0 || !containers[slot].contains(low)) {
+            return false;
+        }
+        removeOccurrences(slot, low, 1);
+        return true;
+    }
+
+    @Override
+    public int removeAll(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        int low = lowOf(value);
+        if (slot < 0 || !containers[slot].contains(low)) {
+            return 0;
+        }
+        int occurrences = occurrences(slot, low);
+        removeOccurrences(slot, low, occurrences);
+        return occurrences;
+    }
+
+    @Override
+    public Integer removeAt(int index) {
+        checkIndex(index);
+        Integer value = get(index);
+        removeOccurrences(slotOf(keyOf(value)), lowOf(value), 1);
+        return value;
+    }
+
+    /**
+     * Internal helper method to remove occurrences of a present value.
+     * Removes the value from its container once no occurrence is left, and the container once it is empty.
+     *
+     * @param slot        the slot of the container
+     * @param low         the lower 16 bits of the value
+     * @param occurrences the number of occurrences to remove, at most the value's count
+     */
+    private void removeOccurrences(int slot, int low, int occurrences) {
+        modCount++;
+        size -= occurrences;
+        sizes[slot] -= occurrences;
+
+        Duplicates slotDuplicates = duplicates[slot];
+        int extra = slotDuplicates == null ? 0 : slotDuplicates.extra(low);
+        if (extra > 0) {
+            slotDuplicates.decrement(low, Math.min(occurrences, extra));
+            if (slotDuplicates.isEmpty()) {
+                duplicates[slot] = null;
+            }
+        }
+        if (occurrences > extra) {
+            containers[slot] = containers[slot].remove(low);
+            if (sizes[slot] == 0) {
+                removeSlot(slot);
+            }
+        }
+    }
+
+    private int occurrences(int slot, int low) {
+        return 1 + (duplicates[slot] == null ? 0 : duplicates[slot].extra(low));
+    }
+
+    private void insertSlot(int slot, int key) {
+        if (containerCount == keys.length) {
+            int capacity = containerCount + (containerCount >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+            duplicates = Arrays.copyOf(duplicates, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        int moved = containerCount - slot;
+        System.arraycopy(keys, slot, keys, slot + 1, moved);
+        System.arraycopy(containers, slot, containers, slot + 1, moved);
+        System.arraycopy(duplicates, slot, duplicates, slot + 1, moved);
+        System.arraycopy(sizes, slot, sizes, slot + 1, moved);
+        keys[slot] = (char) key;
+        containers[slot] = new ArrayContainer();
+        duplicates[slot] = null;
+        sizes[slot] = 0;
+        containerCount++;
+    }
+
+    private void removeSlot(int slot) {
+        int moved = containerCount - slot - 1;
+        System.arraycopy(keys, slot + 1, keys, slot, moved);
+        System.arraycopy(containers, slot + 1, containers, slot, moved);
+        System.arraycopy(duplicates, slot + 1, duplicates, slot, moved);
+        System.arraycopy(sizes, slot + 1, sizes, slot, moved);
+        containerCount--;
+        containers[containerCount] = null;
+        duplicates[containerCount] = null;
+    }
+
+    @Override
+    public boolean contains(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        return slot >= 0 && containers[slot].contains(lowOf(value));
+    }
+
+    @Override
+    public Integer get(int index) {
+        checkIndex(index);
+        int slot = slotAt(index);
+        return valueOf(keys[slot], select(slot, index - slotStart(slot)));
+    }
+
+    @Override
+    public int indexOf(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        int low = lowOf(value);
+        if (slot < 0 || !containers[slot].contains(low)) {
+            return -1;
+        }
+        return slotStart(slot) + rank(slot, low - 1);
+    }
+
+    @Override
+    public int rankOf(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        if (slot < 0) {
+            return slotStart(-slot - 1);
+        }
+        return slotStart(slot) + rank(slot, lowOf(value));
+    }
+
+    @Override
+    public int count(Integer value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        int slot = slotOf(keyOf(value));
+        int low = lowOf(value);
+        return slot >= 0 && containers[slot].contains(low) ? occurrences(slot, low) : 0;
+    }
+
+    /**
+     * Returns the number of distinct values in the list.
+     *
+     * @return the number of distinct values
+     */
+    public int distinctCount() {
+        int distinct = 0;
+        for (int slot = 0; slot < containerCount; slot++) {
+            distinct += containers[slot].cardinality();
+        }
+        return distinct;
+    }
+
+    /**
+     * Returns the number of elements of a container up to and including a low value, counting duplicates.
+     */
+    private int rank(int slot, int low) {
+        if (low < 0) {
+            return 0;
+        }
+        int rank = containers[slot].rank(low);
+        return duplicates[slot] == null ? rank : rank + duplicates[slot].extraUpTo(low);
+    }
+
+    /**
+     * Returns the low value at a position of a container, counting duplicates.
+     */
+    private int select(int slot, int position) {
+        if (duplicates[slot] == null) {
+            return containers[slot].select(position);
+        }
+        // Smallest low value whose rank exceeds the position
+        int low = 0;
+        int high = 0xFFFF;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rank(slot, mid) > position) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the slot containing the specified index, walking from the nearest end.
+     */
+    private int slotAt(int index) {
+        if (index < size / 2) {
+            int slot = 0;
+            int start = 0;
+            while (start + sizes[slot] <= index) {
+                start += sizes[slot];
+                slot++;
+            }
+            return slot;
+        }
+        int slot = containerCount - 1;
+        int start = size - sizes[slot];
+        while (start > index) {
+            slot--;
+            start -= sizes[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the index of the first element of a slot.
+     */
+    private int slotStart(int slot) {
+        if (slot < containerCount / 2) {
+            int start = 0;
+            for (int i = 0; i < slot; i++) {
+                start += sizes[i];
+            }
+            return start;
+        }
+        int start = size;
+        for (int i = containerCount - 1; i >= slot; i--) {
+            start -= sizes[i];
+        }
+        return start;
+    }
+
+    @Override
+    public Optional<Integer> first() {
+        return size == 0 ? Optional.empty() : Optional.of(valueOf(keys[0], containers[0].first()));
+    }
+
+    @Override
+    public Optional<Integer> last() {
+        int slot = containerCount - 1;
+        return size == 0 ? Optional.empty() : Optional.of(valueOf(keys[slot], containers[slot].last()));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(containers, 0, containerCount, null);
+        Arrays.fill(duplicates, 0, containerCount, null);
+        containerCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Converts containers to run containers wherever that makes them smaller.
+     * <p>
+     * Call after loading dense ranges. Run containers are converted back to array or bitmap
+     * containers when they are next modified.
+     * </p>
+     *
+     * @return true if any container was converted
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for (int slot = 0; slot < containerCount; slot++) {
+            Container container = containers[slot];
+            if (!(container instanceof RunContainer)) {
+                RunContainer runs = RunContainer.of(container);
+                if (runs.sizeInBytes() < container.sizeInBytes()) {
+                    containers[slot] = runs;
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a new list holding the values present in both lists.
+     * <p>
+     * Each common value occurs as often as in the list where it occurs less often. Only
+     * containers whose keys are present in both lists are visited; two bitmap containers
+     * are intersected with one AND per 64-bit word, any other pair by probing the larger
+     * container with the values of the smaller one.
+     * </p>
+     *
+     * @param other the list to intersect with
+     * @return a new list holding the intersection
+     * @throws NullPointerException if the other list is null
+     */
+    public RoaringSortedList and(RoaringSortedList other) {
+        Objects.requireNonNull(other, "Other list cannot be null");
+
+        RoaringSortedList result = new RoaringSortedList();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container common = containers[i].and(other.containers[j]);
+                if (common.cardinality() > 0) {
+                    int slot = result.containerCount;
+                    result.insertSlot(slot, keys[i]);
+                    result.containers[slot] = common;
+                    result.sizes[slot] = common.cardinality();
+                    if (duplicates[i] != null && other.duplicates[j] != null) {
+                        result.duplicates[slot] = duplicates[i].min(other.duplicates[j], common);
+                        result.sizes[slot] += result.duplicates[slot] == null ? 0 : result.duplicates[slot].total();
+                    }
+                    result.size += result.sizes[slot];
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * Each value is returned once per occurrence. The iterator will throw
+     * {@link ConcurrentModificationException} if the list is modified after
+     * the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new RoaringIterator();
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RoaringSortedList other)) {
+            return false;
+        }
+        if (this.size != other.size) {
+            return false;
+        }
+
+        Iterator<Integer> thisIterator = this.iterator();
+        Iterator<Integer> otherIterator = other.iterator();
+
+        while (thisIterator.hasNext()) {
+            if (!thisIterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Integer element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * The distinct lower 16-bit values of one key. Mutations return the container to use
+     * afterwards, which may be a different representation.
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        /**
+         * Adds a low value that is not present.
+         */
+        abstract Container add(int low);
+
+        /**
+         * Removes a low value that is present.
+         */
+        abstract Container remove(int low);
+
+        /**
+         * Returns the number of values less than or equal to a low value.
+         */
+        abstract int rank(int low);
+
+        /**
+         * Returns the value at a position in ascending order.
+         */
+        abstract int select(int position);
+
+        /**
+         * Returns the smallest value not less than a low value, or -1 if there is none.
+         */
+        abstract int nextValue(int low);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract int sizeInBytes();
+
+        /**
+         * Returns the values present in both containers.
+         */
+        Container and(Container other) {
+            Container smaller = cardinality() <= other.cardinality() ? this : other;
+            Container larger = smaller == this ? other : this;
+            char[] common = new char[smaller.cardinality()];
+            int count = 0;
+            for (int low = smaller.nextValue(0); low >= 0; low = smaller.nextValue(low + 1)) {
+                if (larger.contains(low)) {
+                    common[count++] = (char) low;
+                }
+            }
+            return ArrayContainer.of(common, count);
+        }
+    }
+
+    /**
+     * Sorted array of up to {@link #ARRAY_CONTAINER_MAX} values.
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int count;
+
+        ArrayContainer() {
+            this.values = new char[INITIAL_CAPACITY];
+            this.count = 0;
+        }
+
+        /**
+         * Creates an array container, or a bitmap container if there are too many values.
+         */
+        static Container of(char[] values, int count) {
+            ArrayContainer array = new ArrayContainer();
+            array.values = values;
+            array.count = count;
+            return count > ARRAY_CONTAINER_MAX ? new BitmapContainer(array) : array;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(values, 0, count, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low) {
+            if (count == ARRAY_CONTAINER_MAX) {
+                return new BitmapContainer(this).add(low);
+            }
+            int position = -Arrays.binarySearch(values, 0, count, (char) low) - 1;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, count + (count >> 1) + 1));
+            }
+            System.arraycopy(values, position, values, position + 1, count - position);
+            values[position] = (char) low;
+            count++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            int position = Arrays.binarySearch(values, 0, count, (char) low);
+            System.arraycopy(values, position + 1, values, position, count - position - 1);
+            count--;
+            return this;
+        }
+
+        @Override
+        int rank(int low) {
+            int position = Arrays.binarySearch(values, 0, count, (char) low);
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+
+        @Override
+        int select(int position) {
+            return values[position];
+        }
+
+        @Override
+        int nextValue(int low) {
+            if (low > 0xFFFF) {
+                return -1;
+            }
+            int position = Arrays.binarySearch(values, 0, count, (char) low);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            return position < count ? values[position] : -1;
+        }
+
+        @Override
+        int first() {
+            return values[0];
+        }
+
+        @Override
+        int last() {
+            return values[count - 1];
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 2 * count;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other.cardinality() < count) {
+                return other.and(this);
+            }
+            char[] common = new char[count];
+            int found = 0;
+            for (int i = 0; i < count; i++) {
+                if (other.contains(values[i])) {
+                    common[found++] = values[i];
+                }
+            }
+            return ArrayContainer.of(common, found);
+        }
+    }
+
+    /**
+     * Bitmap of all 65536 possible values, used for more than {@link #ARRAY_CONTAINER_MAX} values.
+     */
+    private static final class BitmapContainer extends Container {
+
+        private static final int WORDS = 1024;
+
+        private final long[] words;
+        private int count;
+
+        BitmapContainer(Container source) {
+            this.words = new long[WORDS];
+            for (int low = source.nextValue(0); low >= 0; low = source.nextValue(low + 1)) {
+                words[low >>> 6] |= 1L << low;
+            }
+            this.count = source.cardinality();
+        }
+
+        private BitmapContainer(long[] words, int count) {
+            this.words = words;
+            this.count = count;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(int low) {
+            words[low >>> 6] |= 1L << low;
+            count++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            words[low >>> 6] &= ~(1L << low);
+            count--;
+            if (count <= ARRAY_CONTAINER_MAX) {
+                return toArray();
+            }
+            return this;
+        }
+
+        private Container toArray() {
+            char[] values = new char[count];
+            int position = 0;
+            for (int low = nextValue(0); low >= 0; low = nextValue(low + 1)) {
+                values[position++] = (char) low;
+            }
+            return ArrayContainer.of(values, count);
+        }
+
+        @Override
+        int rank(int low) {
+            int word = low >>> 6;
+            int rank = 0;
+            for (int i = 0; i < word; i++) {
+                rank += Long.bitCount(words[i]);
+            }
+            // Bits 0..(low % 64) of the word; the shift count is taken modulo 64
+            long mask = -1L >>> (63 - (low & 63));
+            return rank + Long.bitCount(words[word] & mask);
+        }
+
+        @Override
+        int select(int position) {
+            int remaining = position;
+            for (int i = 0; i < WORDS; i++) {
+                int bits = Long.bitCount(words[i]);
+                if (remaining < bits) {
+                    long word = words[i];
+                    for (int k = 0; k < remaining; k++) {
+                        word &= word - 1;
+                    }
+                    return (i << 6) + Long.numberOfTrailingZeros(word);
+                }
+                remaining -= bits;
+            }
+            throw new IllegalStateException("Position " + position + " beyond cardinality " + count);
+        }
+
+        @Override
+        int nextValue(int low) {
+            if (low > 0xFFFF) {
+                return -1;
+            }
+            int i = low >>> 6;
+            long word = words[i] & (-1L << low);
+            while (word == 0) {
+                if (++i == WORDS) {
+                    return -1;
+                }
+                word = words[i];
+            }
+            return (i << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int first() {
+            return nextValue(0);
+        }
+
+        @Override
+        int last() {
+            int i = WORDS - 1;
+            while (words[i] == 0) {
+                i--;
+            }
+            return (i << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return WORDS * Long.BYTES;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.and(this);
+            }
+            long[] common = new long[WORDS];
+            int found = 0;
+            for (int i = 0; i < WORDS; i++) {
+                common[i] = words[i] & bitmap.words[i];
+                found += Long.bitCount(common[i]);
+            }
+            BitmapContainer result = new BitmapContainer(common, found);
+            return found <= ARRAY_CONTAINER_MAX ? result.toArray() : result;
+        }
+    }
+
+    /**
+     * Sorted runs of consecutive values, each stored as its start and its length minus one.
+     * Modifications convert the container back to an array or bitmap container.
+     */
+    private static final class RunContainer extends Container {
+
+        private final char[] starts;
+        private final char[] lengths;
+        private final int runs;
+        private final int count;
+
+        private RunContainer(char[] starts, char[] lengths, int runs, int count) {
+            this.starts = starts;
+            this.lengths = lengths;
+            this.runs = runs;
+            this.count = count;
+        }
+
+        static RunContainer of(Container source) {
+            int runs = 0;
+            int previous = -2;
+            for (int low = source.nextValue(0); low >= 0; low = source.nextValue(low + 1)) {
+                if (low != previous + 1) {
+                    runs++;
+                }
+                previous = low;
+            }
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int run = -1;
+            previous = -2;
+            for (int low = source.nextValue(0); low >= 0; low = source.nextValue(low + 1)) {
+                if (low != previous + 1) {
+                    starts[++run] = (char) low;
+                } else {
+                    lengths[run]++;
+                }
+                previous = low;
+            }
+            return new RunContainer(starts, lengths, runs, source.cardinality());
+        }
+
+        /**
+         * Returns the index of the last run starting at or before a low value, or -1.
+         */
+        private int runOf(int low) {
+            int position = Arrays.binarySearch(starts, 0, runs, (char) low);
+            return position >= 0 ? position : -position - 2;
+        }
+
+        private Container toMutable() {
+            return count > ARRAY_CONTAINER_MAX ? new BitmapContainer(this) : toArray();
+        }
+
+        private Container toArray() {
+            char[] values = new char[Math.max(count, INITIAL_CAPACITY)];
+            int position = 0;
+            for (int run = 0; run < runs; run++) {
+                for (int i = 0; i <= lengths[run]; i++) {
+                    values[position++] = (char) (starts[run] + i);
+                }
+            }
+            return ArrayContainer.of(values, count);
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        boolean contains(int low) {
+            int run = runOf(low);
+            return run >= 0 && low <= starts[run] + lengths[run];
+        }
+
+        @Override
+        Container add(int low) {
+            return toMutable().add(low);
+        }
+
+        @Override
+        Container remove(int low) {
+            return toMutable().remove(low);
+        }
+
+        @Override
+        int rank(int low) {
+            int last = runOf(low);
+            int rank = 0;
+            for (int run = 0; run < last; run++) {
+                rank += lengths[run] + 1;
+            }
+            return last < 0 ? 0 : rank + Math.min(low - starts[last], lengths[last]) + 1;
+        }
+
+        @Override
+        int select(int position) {
+            int remaining = position;
+            for (int run = 0; run < runs; run++) {
+                if (remaining <= lengths[run]) {
+                    return starts[run] + remaining;
+                }
+                remaining -= lengths[run] + 1;
+            }
+            throw new IllegalStateException("Position " + position + " beyond cardinality " + count);
+        }
+
+        @Override
+        int nextValue(int low) {
+            if (low > 0xFFFF) {
+                return -1;
+            }
+            int run = runOf(low);
+            if (run >= 0 && low <= starts[run] + lengths[run]) {
+                return low;
+            }
+            return run + 1 < runs ? starts[run + 1] : -1;
+        }
+
+        @Override
+        int first() {
+            return starts[0];
+        }
+
+        @Override
+        int last() {
+            return starts[runs - 1] + lengths[runs - 1];
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 4 * runs;
+        }
+    }
+
+    /**
+     * Extra occurrence counts of the values of one container that were added more than once.
+     */
+    private static final class Duplicates {
+
+        private char[] lows = new char[INITIAL_CAPACITY];
+        private int[] extras = new int[INITIAL_CAPACITY];
+        private int count;
+
+        int extra(int low) {
+            int position = Arrays.binarySearch(lows, 0, count, (char) low);
+            return position >= 0 ? extras[position] : 0;
+        }
+
+        void increment(int low) {
+            int position = Arrays.binarySearch(lows, 0, count, (char) low);
+            if (position >= 0) {
+                extras[position]++;
+                return;
+            }
+            position = -position - 1;
+            if (count == lows.length) {
+                lows = Arrays.copyOf(lows, count * 2);
+                extras = Arrays.copyOf(extras, count * 2);
+            }
+            System.arraycopy(lows, position, lows, position + 1, count - position);
+            System.arraycopy(extras, position, extras, position + 1, count - position);
+            lows[position] = (char) low;
+            extras[position] = 1;
+            count++;
+        }
+
+        void decrement(int low, int occurrences) {
+            int position = Arrays.binarySearch(lows, 0, count, (char) low);
+            extras[position] -= occurrences;
+            if (extras[position] == 0) {
+                System.arraycopy(lows, position + 1, lows, position, count - position - 1);
+                System.arraycopy(extras, position + 1, extras, position, count - position - 1);
+                count--;
+            }
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        /**
+         * Returns the sum of extra occurrences of all values less than or equal to a low value.
+         */
+        int extraUpTo(int low) {
+            int sum = 0;
+            for (int i = 0; i < count && lows[i] <= low; i++) {
+                sum += extras[i];
+            }
+            return sum;
+        }
+
+        int total() {
+            return extraUpTo(0xFFFF);
+        }
+
+        /**
+         * Returns the smaller extra counts of values duplicated in both tables and present in a container.
+         */
+        Duplicates min(Duplicates other, Container common) {
+            Duplicates result = new Duplicates();
+            for (int i = 0; i < count; i++) {
+                int extra = Math.min(extras[i], other.extra(lows[i]));
+                if (extra > 0 && common.contains(lows[i])) {
+                    for (int k = 0; k < extra; k++) {
+                        result.increment(lows[i]);
+                    }
+                }
+            }
+            return result.isEmpty() ? null : result;
+        }
+    }
+
+    /**
+     * Fail-fast iterator implementation for RoaringSortedList.
+     */
+    private class RoaringIterator implements Iterator<Integer> {
+
+        /**
+         * Slot and low value of the next value to return; {@code low} is -1 at the end.
+         */
+        private int slot;
+        private int low;
+
+        /**
+         * Occurrences of the next value not yet returned.
+         */
+        private int remaining;
+
+        private int lastReturned;
+        private boolean canRemove;
+        private int expectedModCount;
+
+        RoaringIterator() {
+            this.slot = 0;
+            this.low = containerCount == 0 ? -1 : containers[0].first();
+            this.remaining = low < 0 ? 0 : occurrences(0, low);
+            this.canRemove = false;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return low >= 0;
+        }
+
+        @Override
+        public Integer next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = valueOf(keys[slot], low);
+            canRemove = true;
+            if (--remaining == 0) {
+                advance();
+            }
+            return lastReturned;
+        }
+
+        private void advance() {
+            low = containers[slot].nextValue(low + 1);
+            while (low < 0 && ++slot < containerCount) {
+                low = containers[slot].first();
+            }
+            remaining = low < 0 ? 0 : occurrences(slot, low);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            int nextKey = low < 0 ? -1 : keys[slot];
+            RoaringSortedList.this.remove(lastReturned);
+            if (nextKey >= 0) {
+                // Removing an emptied container may shift the slot of the next value
+                slot = slotOf(nextKey);
+            }
+            canRemove = false;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A sorted linked list that stores duplicates run-length encoded.
+ * <p>
+ * Equal values share a single node holding the value and its number of occurrences.
+ * Adding a value that is already present only increments that counter, and
+ * {@link #count(Comparable)} and {@link #removeAll(Comparable)} cost a single lookup
+ * regardless of how many duplicates exist. Lists with many repeated values (status
+ * codes, bucket IDs) therefore need one node per distinct value instead of one per element,
+ * and every search walks distinct values only.
+ * </p>
+ * <p>
+ * Apart from the representation, the list behaves like {@link SortedLinkedList} in its
+ * default {@link SearchMode#LINEAR} mode: {@link #size()}, indices and iteration count
+ * every occurrence, and the iterator yields each value as many times as it was added.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <p>
+ * With d distinct values:
+ * </p>
+ * <ul>
+ *   <li>add(T)/remove(T)/removeAll(T)/contains(T)/count(T): O(d), O(1) at either end for add</li>
+ *   <li>indexOf(T)/rankOf(T): O(d)</li>
+ *   <li>get(int)/removeAt(int): O(d) - optimized to traverse from nearest end</li>
+ *   <li>first()/last()/size()/isEmpty()/distinctCount(): O(1)</li>
+ * </ul>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class RunLengthSortedLinkedList<T extends Comparable<T>> implements SortedList<T> {
+
+    private Run<T> head;
+    private Run<T> tail;
+    private int size;
+    private int distinctCount;
+    private int modCount;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     * This ensures only String or Integer types can be used.
+     */
+    private RunLengthSortedLinkedList() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.distinctCount = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates a new empty run-length encoded sorted linked list for String values.
+     *
+     * @return a new empty RunLengthSortedLinkedList for Strings
+     */
+    public static RunLengthSortedLinkedList<String> ofStrings() {
+        return new RunLengthSortedLinkedList<>();
+    }
+
+    /**
+     * Creates a new empty run-length encoded sorted linked list for Integer values.
+     *
+     * @return a new empty RunLengthSortedLinkedList for Integers
+     */
+    public static RunLengthSortedLinkedList<Integer> ofIntegers() {
+        return new RunLengthSortedLinkedList<>();
+    }
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * <p>
+     * If the value is already present, only its occurrence count is incremented.
+     * </p>
+     *
+     * @param value the value to add (must not be null)
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public void add(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        modCount++;
+        size++;
+
+        Run<T> after;
+        if (tail != null && value.compareTo(tail.value) >= 0) {
+            // Append at the tail, the common case for ascending input
+            after = tail;
+        } else {
+            Run<T> run = lowerBound(value);
+            after = run == null ? tail : run.prev;
+            if (run != null && run.value.compareTo(value) == 0) {
+                run.count++;
+                return;
+            }
+        }
+        if (after != null && after.value.compareTo(value) == 0) {
+            after.count++;
+            return;
+        }
+        linkAfter(after, new Run<>(value));
+    }
+
+    /**
+     * Internal helper method to link a run into the chain.
+     *
+     * @param after the run after which to link, or null to link at the head
+     * @param run   the run to link
+     */
+    private void linkAfter(Run<T> after, Run<T> run) {
+        Run<T> following = after == null ? head : after.next;
+        run.prev = after;
+        run.next = following;
+
+        if (after == null) {
+            head = run;
+        } else {
+            after.next = run;
+        }
+
+        if (following == null) {
+            tail = run;
+        } else {
+            following.prev = run;
+        }
+        distinctCount++;
+    }
+
+    @Override
+    public boolean remove(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Run<T> run = find(value);
+        if (run == null) {
+            return false;
+        }
+        removeOccurrences(run, 1);
+        return true;
+    }
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     * <p>
+     * Costs a single lookup, however many occurrences the value has.
+     * </p>
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int removeAll(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Run<T> run = find(value);
+        if (run == null) {
+            return 0;
+        }
+        int removed = run.count;
+        removeOccurrences(run, removed);
+        return removed;
+    }
+
+    @Override
+    public T removeAt(int index) {
+        checkIndex(index);
+        Run<T> run = runAt(index);
+        removeOccurrences(run, 1);
+        return run.value;
+    }
+
+    /**
+     * Internal helper method to remove occurrences from a run, unlinking it once it is empty.
+     *
+     * @param run         the run to shrink
+     * @param occurrences the number of occurrences to remove, at most the run's count
+     */
+    private void removeOccurrences(Run<T> run, int occurrences) {
+        modCount++;
+        size -= occurrences;
+        run.count -= occurrences;
+        if (run.count > 0) {
+            return;
+        }
+
+        if (run.prev != null) {
+            run.prev.next = run.next;
+        } else {
+            head = run.next;
+        }
+
+        if (run.next != null) {
+            run.next.prev = run.prev;
+        } else {
+            tail = run.prev;
+        }
+
+        run.prev = null;
+        run.next = null;
+        distinctCount--;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return find(value) != null;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return runAt(index).value;
+    }
+
+    /**
+     * Returns the run holding the element at the specified index, traversing from the nearest end.
+     *
+     * @param index the index of the element
+     * @return the run holding that element
+     */
+    private Run<T> runAt(int index) {
+        if (index < size / 2) {
+            Run<T> current = head;
+            int remaining = index;
+            while (remaining >= current.count) {
+                remaining -= current.count;
+                current = current.next;
+            }
+            return current;
+        }
+        Run<T> current = tail;
+        int remaining = size - 1 - index;
+        while (remaining >= current.count) {
+            remaining -= current.count;
+            current = current.prev;
+        }
+        return current;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int index = 0;
+        for (Run<T> current = head; current != null; current = current.next) {
+            int cmp = current.value.compareTo(value);
+            if (cmp == 0) {
+                return index;
+            } else if (cmp > 0) {
+                return -1;
+            }
+            index += current.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int rankOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int rank = 0;
+        for (Run<T> current = head; current != null && current.value.compareTo(value) <= 0; current = current.next) {
+            rank += current.count;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of occurrences of the specified value in the list.
+     * <p>
+     * Costs a single lookup, however many occurrences the value has.
+     * </p>
+     *
+     * @param value the value to count
+     * @return the number of occurrences
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int count(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Run<T> run = find(value);
+        return run == null ? 0 : run.count;
+    }
+
+    /**
+     * Returns the number of distinct values in the list, i.e. the number of nodes.
+     *
+     * @return the number of distinct values
+     */
+    public int distinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * Returns the run holding the value, or null if the value is not present.
+     *
+     * @param value the value being searched for
+     * @return the run, or null
+     */
+    private Run<T> find(T value) {
+        Run<T> run = lowerBound(value);
+        return run != null && run.value.compareTo(value) == 0 ? run : null;
+    }
+
+    /**
+     * Returns the first run whose value is not less than the value.
+     *
+     * @param value the value being searched for
+     * @return the run, or null if every value is less than the value
+     */
+    private Run<T> lowerBound(T value) {
+        Run<T> current = head;
+        while (current != null && current.value.compareTo(value) < 0) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    @Override
+    public Optional<T> first() {
+        return head == null ? Optional.empty() : Optional.of(head.value);
+    }
+
+    @Override
+    public Optional<T> last() {
+        return tail == null ? Optional.empty() : Optional.of(tail.value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        distinctCount = 0;
+        modCount++;
+    }
+
+    @Override
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(size);
+        for (Run<T> current = head; current != null; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                result.add(current.value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * Each value is returned once per occurrence. The iterator will throw
+     * {@link ConcurrentModificationException} if the list is modified after
+     * the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RunLengthIterator();
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (Run<T> current = head; current != null; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                sb.append(current.value);
+                if (i < current.count - 1 || current.next != null) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RunLengthSortedLinkedList<?> other)) {
+            return false;
+        }
+        if (this.size != other.size || this.distinctCount != other.distinctCount) {
+            return false;
+        }
+
+        Run<?> otherRun = other.head;
+        for (Run<T> current = head; current != null; current = current.next) {
+            if (current.count != otherRun.count || !current.value.equals(otherRun.value)) {
+                return false;
+            }
+            otherRun = otherRun.next;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * A distinct value and its number of occurrences.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class Run<T> {
+
+        private final T value;
+        private int count;
+        private Run<T> next;
+        private Run<T> prev;
+
+        Run(T value) {
+            this.value = value;
+            this.count = 1;
+        }
+    }
+
+    /**
+     * Fail-fast iterator implementation for RunLengthSortedLinkedList.
+     */
+    private class RunLengthIterator implements Iterator<T> {
+
+        /**
+         * The run holding the next occurrence to return, or null at the end.
+         */
+        private Run<T> current;
+
+        /**
+         * Number of occurrences of {@code current} already returned.
+         */
+        private int position;
+
+        private Run<T> lastReturned;
+        private int expectedModCount;
+
+        RunLengthIterator() {
+            this.current = head;
+            this.position = 0;
+            this.lastReturned = null;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastReturned = current;
+            position++;
+            if (position == current.count) {
+                current = current.next;
+                position = 0;
+            }
+            return lastReturned.value;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            if (lastReturned == current) {
+                // The removed occurrence precedes the remaining ones of the same run
+                position--;
+            }
+            removeOccurrences(lastReturned, 1);
+            lastReturned = null;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
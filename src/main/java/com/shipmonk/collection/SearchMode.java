@@ -0,0 +1,37 @@
+package com.shipmonk.collection;
+
+/**
+ * Strategy used by a {@link SortedLinkedList} to locate positions in its node chain.
+ * <p>
+ * The search mode only affects performance. Iteration order, duplicate placement
+ * and all observable results are identical regardless of the chosen mode.
+ * </p>
+ *
+ * @see SortedLinkedList#ofIntegers(SearchMode)
+ * @see SortedLinkedList#ofStrings(SearchMode)
+ */
+public enum SearchMode {
+
+    /**
+     * Plain traversal of the node chain starting from the head (or tail).
+     * Uses no additional memory; lookups and ordered inserts are O(n).
+     */
+    LINEAR,
+
+    /**
+     * Indexable probabilistic skip-list maintained on top of the node chain.
+     * Lookups, ordered inserts, positional access and rank queries are
+     * expected O(log n) at the cost of roughly one extra index entry per
+     * three elements.
+     */
+    SKIP_LIST,
+
+    /**
+     * Remembered finger pointing at the most recently inserted or accessed node.
+     * Searches walk forward or backward from the finger, so their cost is
+     * proportional to the distance from the previous position. Well suited to
+     * nearly sorted insertion streams and clustered lookups; uses no extra memory
+     * beyond a single reference.
+     */
+    FINGER
+}
@@ -0,0 +1,347 @@
+package com.shipmonk.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable probabilistic skip-list layered over the node chain of a {@link SortedLinkedList}.
+ * <p>
+ * The index never owns the elements: every tower references a {@link Node} of the
+ * underlying chain, and the chain itself remains the single source of truth for
+ * iteration order. Roughly one node in four receives a tower, and every tower is
+ * promoted to the next level with probability 1/4, so a search descends through
+ * O(log n) towers and finishes with a short walk along the node chain.
+ * </p>
+ * <p>
+ * Every forward link also records its span, the number of chain positions it skips.
+ * Summing spans during a descent yields the position of a node, which makes
+ * positional access and rank queries logarithmic as well. Positions are 0-based;
+ * the header sits at position -1 and a missing forward link points at position
+ * {@code size}, one past the last node.
+ * </p>
+ * <p>
+ * The index is not linked into the chain by itself. {@link #insert(Node, Node)} only
+ * threads the new tower and reports the node after which the caller must link the
+ * new node, which keeps the chain manipulation in one place.
+ * </p>
+ *
+ * @param <T> the type of values referenced by the index
+ */
+final class SkipListIndex<T extends Comparable<T>> {
+
+    /**
+     * Maximum number of index levels. With a promotion probability of 1/4 this
+     * comfortably covers lists of up to 2^32 elements.
+     */
+    static final int MAX_LEVEL = 16;
+
+    private final Tower<T> header;
+    private final Tower<T>[] update;
+    private final int[] updatePosition;
+    private int level;
+    private int size;
+
+    /**
+     * Creates a new empty index.
+     */
+    @SuppressWarnings("unchecked")
+    SkipListIndex() {
+        this.header = new Tower<>(null, MAX_LEVEL);
+        this.update = (Tower<T>[]) new Tower[MAX_LEVEL];
+        this.updatePosition = new int[MAX_LEVEL];
+        this.level = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the last node whose value is less than (or, if {@code inclusive},
+     * less than or equal to) the specified value.
+     *
+     * @param value     the value to search for
+     * @param inclusive whether nodes equal to the value also qualify
+     * @param head      the current head of the node chain
+     * @return the matching node, or null if no node qualifies
+     */
+    Node<T> findLast(T value, boolean inclusive, Node<T> head) {
+        Tower<T> x = header;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && precedes(next.node.getValue(), value, inclusive)) {
+                x = next;
+                next = x.next[i];
+            }
+        }
+        Node<T> predecessor = x.node;
+        Node<T> current = predecessor == null ? head : predecessor.getNext();
+        while (current != null && precedes(current.getValue(), value, inclusive)) {
+            predecessor = current;
+            current = current.getNext();
+        }
+        return predecessor;
+    }
+
+    /**
+     * Counts the nodes whose value is less than (or, if {@code inclusive},
+     * less than or equal to) the specified value.
+     *
+     * @param value     the value to rank
+     * @param inclusive whether nodes equal to the value are counted
+     * @param head      the current head of the node chain
+     * @return the number of qualifying nodes
+     */
+    int rank(T value, boolean inclusive, Node<T> head) {
+        Tower<T> x = header;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && precedes(next.node.getValue(), value, inclusive)) {
+                position += x.span[i];
+                x = next;
+                next = x.next[i];
+            }
+        }
+        Node<T> current = x.node == null ? head : x.node.getNext();
+        while (current != null && precedes(current.getValue(), value, inclusive)) {
+            position++;
+            current = current.getNext();
+        }
+        return position + 1;
+    }
+
+    /**
+     * Returns the position of a node that is linked into the chain.
+     *
+     * @param node the node to locate
+     * @param head the current head of the node chain
+     * @return the 0-based position of the node
+     */
+    int positionOf(Node<T> node, Node<T> head) {
+        T value = node.getValue();
+        Tower<T> x = header;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && next.node.getValue().compareTo(value) < 0) {
+                position += x.span[i];
+                x = next;
+                next = x.next[i];
+            }
+        }
+        // Walk over any preceding nodes, including equal values placed before this node
+        Node<T> current = x.node == null ? head : x.node.getNext();
+        position++;
+        while (current != node) {
+            position++;
+            current = current.getNext();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the node at the specified position.
+     *
+     * @param position the 0-based position, which must be within bounds
+     * @param head     the current head of the node chain
+     * @return the node at the position
+     */
+    Node<T> nodeAt(int position, Node<T> head) {
+        Tower<T> x = header;
+        int current = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && current + x.span[i] <= position) {
+                current += x.span[i];
+                x = next;
+                next = x.next[i];
+            }
+        }
+        Node<T> node = x.node;
+        if (node == null) {
+            node = head;
+            current = 0;
+        }
+        for (; current < position; current++) {
+            node = node.getNext();
+        }
+        return node;
+    }
+
+    /**
+     * Threads an index tower for a node that is about to be linked into the chain.
+     * <p>
+     * The node is positioned after all existing nodes with an equal value.
+     * </p>
+     *
+     * @param node the new node (not yet linked into the chain)
+     * @param head the current head of the node chain
+     * @return the node after which the new node must be linked, or null if it becomes the new head
+     */
+    Node<T> insert(Node<T> node, Node<T> head) {
+        T value = node.getValue();
+        Tower<T> x = header;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && next.node.getValue().compareTo(value) <= 0) {
+                position += x.span[i];
+                x = next;
+                next = x.next[i];
+            }
+            update[i] = x;
+            updatePosition[i] = position;
+        }
+
+        Node<T> predecessor = x.node;
+        Node<T> current = predecessor == null ? head : predecessor.getNext();
+        while (current != null && current.getValue().compareTo(value) <= 0) {
+            predecessor = current;
+            current = current.getNext();
+            position++;
+        }
+        int inserted = position + 1;
+
+        int height = randomHeight();
+        if (height > level) {
+            for (int i = level; i < height; i++) {
+                update[i] = header;
+                updatePosition[i] = -1;
+                header.next[i] = null;
+                header.span[i] = size + 1;
+            }
+            level = height;
+        }
+        if (height > 0) {
+            Tower<T> tower = new Tower<>(node, height);
+            for (int i = 0; i < height; i++) {
+                Tower<T> before = update[i];
+                int distance = inserted - updatePosition[i];
+                tower.next[i] = before.next[i];
+                tower.span[i] = before.span[i] - distance + 1;
+                before.next[i] = tower;
+                before.span[i] = distance;
+            }
+        }
+        for (int i = height; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        size++;
+        Arrays.fill(update, null);
+        return predecessor;
+    }
+
+    /**
+     * Removes the tower of the specified node, if it has one, and shifts the spans
+     * of all towers that skip over it.
+     * <p>
+     * Must be called while the node is still linked into the chain.
+     * </p>
+     *
+     * @param node the node being removed from the chain
+     * @param head the current head of the node chain
+     */
+    void remove(Node<T> node, Node<T> head) {
+        int target = positionOf(node, head);
+        Tower<T> x = header;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            Tower<T> next = x.next[i];
+            while (next != null && position + x.span[i] < target) {
+                position += x.span[i];
+                x = next;
+                next = x.next[i];
+            }
+            if (next != null && next.node == node) {
+                x.span[i] += next.span[i] - 1;
+                x.next[i] = next.next[i];
+            } else {
+                x.span[i]--;
+            }
+        }
+        while (level > 0 && header.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    /**
+     * Discards all towers and rebuilds the index bottom-up from the node chain in one pass.
+     *
+     * @param head the head of the node chain
+     * @param size the number of nodes in the chain
+     */
+    void rebuild(Node<T> head, int size) {
+        clear();
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            update[i] = header;
+            updatePosition[i] = -1;
+        }
+
+        int position = 0;
+        for (Node<T> node = head; node != null; node = node.getNext(), position++) {
+            int height = randomHeight();
+            if (height == 0) {
+                continue;
+            }
+            Tower<T> tower = new Tower<>(node, height);
+            for (int i = 0; i < height; i++) {
+                update[i].next[i] = tower;
+                update[i].span[i] = position - updatePosition[i];
+                update[i] = tower;
+                updatePosition[i] = position;
+            }
+            level = Math.max(level, height);
+        }
+
+        for (int i = 0; i < level; i++) {
+            update[i].next[i] = null;
+            update[i].span[i] = size - updatePosition[i];
+        }
+        this.size = size;
+        Arrays.fill(update, null);
+    }
+
+    /**
+     * Removes all towers from the index.
+     */
+    void clear() {
+        Arrays.fill(header.next, null);
+        level = 0;
+        size = 0;
+    }
+
+    private static <T extends Comparable<T>> boolean precedes(T candidate, T value, boolean inclusive) {
+        int cmp = candidate.compareTo(value);
+        return inclusive ? cmp <= 0 : cmp < 0;
+    }
+
+    /**
+     * Draws a tower height: 0 with probability 3/4, otherwise geometrically distributed with p = 1/4.
+     */
+    private static int randomHeight() {
+        int random = ThreadLocalRandom.current().nextInt();
+        int height = 0;
+        while ((random & 3) == 0 && height < MAX_LEVEL) {
+            height++;
+            random >>>= 2;
+        }
+        return height;
+    }
+
+    /**
+     * A column of forward links anchored at a single node of the chain.
+     */
+    private static final class Tower<T> {
+
+        private final Node<T> node;
+        private final Tower<T>[] next;
+        private final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Tower(Node<T> node, int height) {
+            this.node = node;
+            this.next = (Tower<T>[]) new Tower[height];
+            this.span = new int[height];
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.shipmonk.collection;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot file format of {@link SortedLinkedList}.
+ * <p>
+ * A snapshot consists of a fixed header, the elements in ascending order and a trailer:
+ * </p>
+ * <pre>
+ * int   magic    "SLLS"
+ * short version  {@link #VERSION}
+ * byte  type     {@link #TYPE_EMPTY}, {@link #TYPE_INTEGER} or {@link #TYPE_STRING}
+ * int   count    number of elements
+ * ...   elements ints as 4 bytes, strings as a varint byte length followed by UTF-8 bytes
+ * int   checksum CRC-32 of all preceding bytes
+ * </pre>
+ * <p>
+ * Strings are encoded by {@link #encodeString(String)}: standard UTF-8, except that an
+ * unpaired surrogate is written as its own 3-byte sequence, as in WTF-8, instead of being
+ * replaced with {@code '?'}. Every string therefore reads back exactly as written and in
+ * the same order.
+ * </p>
+ * <p>
+ * Snapshots are written and synced to a temporary file that is then moved over the target,
+ * and the directory is synced after the move, so a crash while writing never leaves a
+ * truncated snapshot behind and a completed write survives a crash. Reading memory-maps the
+ * file and verifies the checksum before any element is decoded.
+ * </p>
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x534C4C53;
+    static final short VERSION = 1;
+    static final byte TYPE_EMPTY = 0;
+    static final byte TYPE_INTEGER = 1;
+    static final byte TYPE_STRING = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * Writes the elements of a list to a snapshot file, replacing any existing file.
+     *
+     * @param path   the target file
+     * @param values the elements in ascending order, all Integers or all Strings
+     * @param count  the number of elements
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path path, Iterable<?> values, int count) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream file = Channels.newOutputStream(channel);
+             DataOutputStream out = new DataOutputStream(
+                     new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+            byte type = TYPE_EMPTY;
+            for (Object value : values) {
+                type = value instanceof Integer ? TYPE_INTEGER : TYPE_STRING;
+                break;
+            }
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(type);
+            out.writeInt(count);
+            for (Object value : values) {
+                if (type == TYPE_INTEGER) {
+                    out.writeInt((Integer) value);
+                } else {
+                    byte[] bytes = encodeString((String) value);
+                    writeVarint(out, bytes.length);
+                    out.write(bytes);
+                }
+            }
+            out.flush();
+            // The checksum itself is not part of the checked bytes
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(path.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Syncs a directory so that renames of files inside it survive a crash.
+     * <p>
+     * Platforms that cannot open directories as channels, such as Windows, make renames
+     * durable on their own; the failure to open the directory is ignored there.
+     * </p>
+     *
+     * @param directory the directory to sync
+     * @throws IOException if the directory was opened but cannot be synced
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads a snapshot file and passes its elements to a consumer in ascending order.
+     *
+     * @param path         the snapshot file
+     * @param expectedType {@link #TYPE_INTEGER} or {@link #TYPE_STRING}
+     * @param sink         receives every element
+     * @return the number of elements read
+     * @throws IOException if the file cannot be read, is corrupt or holds another element type
+     */
+    static int read(Path path, byte expectedType, Consumer<Object> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException("Snapshot is truncated: " + path);
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is larger than 2 GB: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+            int bodyEnd = (int) fileSize - TRAILER_BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, bodyEnd));
+            if ((int) crc.getValue() != buffer.getInt(bodyEnd)) {
+                throw new IOException("Snapshot checksum mismatch: " + path);
+            }
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a snapshot file: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            byte type = buffer.get();
+            int count = buffer.getInt();
+            if (type != TYPE_EMPTY && type != expectedType) {
+                throw new IOException("Snapshot holds another element type: " + path);
+            }
+
+            buffer.limit(bodyEnd);
+            for (int i = 0; i < count; i++) {
+                if (type == TYPE_INTEGER) {
+                    sink.accept(buffer.getInt());
+                } else {
+                    sink.accept(decodeString(buffer, readVarint(buffer)));
+                }
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Snapshot has trailing data: " + path);
+            }
+            return count;
+        } catch (RuntimeException e) {
+            // Buffer underflows and bad lengths of a file that passed the checksum
+            throw new IOException("Snapshot is corrupt: " + path, e);
+        }
+    }
+
+    /**
+     * Returns the checksum stored in the trailer of a snapshot file.
+     * The checksum identifies the snapshot contents without reading them.
+     *
+     * @param path the snapshot file
+     * @return the stored CRC-32
+     * @throws IOException if the file cannot be read or is too short to be a snapshot
+     */
+    static int checksum(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException("Snapshot is truncated: " + path);
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+            while (trailer.hasRemaining()) {
+                if (channel.read(trailer, fileSize - TRAILER_BYTES + trailer.position()) < 0) {
+                    throw new IOException("Snapshot is truncated: " + path);
+                }
+            }
+            return trailer.getInt(0);
+        }
+    }
+
+    /**
+     * Encodes a string as UTF-8, writing unpaired surrogates as 3-byte sequences instead of replacing them.
+     *
+     * @param value the string to encode
+     * @return the encoded bytes
+     */
+    static byte[] encodeString(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (isSurrogatePair(value, i)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        byte[] bytes = new byte[length];
+        int position = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (isSurrogatePair(value, i)) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isSurrogatePair(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    /**
+     * Decodes a string written by {@link #encodeString(String)} from the current position of a buffer.
+     *
+     * @param buffer the buffer, advanced past the string
+     * @param length the encoded length in bytes
+     * @return the decoded string
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    static String decodeString(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        // A string never has more UTF-16 units than encoded bytes
+        char[] chars = new char[length];
+        int count = 0;
+        int end = buffer.position() + length;
+        while (buffer.position() < end) {
+            int lead = buffer.get() & 0xFF;
+            int codePoint;
+            if (lead < 0x80) {
+                codePoint = lead;
+            } else if (lead >= 0xC0 && lead < 0xE0) {
+                codePoint = (lead & 0x1F) << 6 | continuation(buffer, end);
+            } else if (lead >= 0xE0 && lead < 0xF0) {
+                codePoint = (lead & 0x0F) << 12 | continuation(buffer, end) << 6 | continuation(buffer, end);
+            } else if (lead >= 0xF0 && lead < 0xF5) {
+                codePoint = (lead & 0x07) << 18 | continuation(buffer, end) << 12
+                        | continuation(buffer, end) << 6 | continuation(buffer, end);
+                if (codePoint > Character.MAX_CODE_POINT) {
+                    throw new IllegalArgumentException("Invalid code point " + codePoint);
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid lead byte " + lead);
+            }
+            count += Character.toChars(codePoint, chars, count);
+        }
+        return new String(chars, 0, count);
+    }
+
+    private static int continuation(ByteBuffer buffer, int end) {
+        if (buffer.position() >= end) {
+            throw new IllegalArgumentException("Truncated string encoding");
+        }
+        int b = buffer.get() & 0xFF;
+        if ((b & 0xC0) != 0x80) {
+            throw new IllegalArgumentException("Invalid continuation byte " + b);
+        }
+        return b & 0x3F;
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+}
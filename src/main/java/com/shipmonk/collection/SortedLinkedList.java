@@ -1,6 +1,11 @@
 package com.shipmonk.collection;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
@@ -8,7 +13,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -27,6 +32,9 @@ import java.util.stream.StreamSupport;
  *   <li>{@link #ofIntegers()} - creates a list for Integer values</li>
  * </ul>
  * This ensures compile-time type safety and prevents mixing different types.
+ * Both factories accept an optional {@link SearchMode} selecting how positions
+ * in the list are located, and an optional node pool capacity that lets the list
+ * recycle removed nodes instead of allocating new ones.
  * </p>
  *
  * <h2>Features</h2>
@@ -39,6 +47,9 @@ import java.util.stream.StreamSupport;
  * </ul>
  *
  * <h2>Complexity</h2>
+ * <p>
+ * With the default {@link SearchMode#LINEAR} mode:
+ * </p>
  * <ul>
  *   <li>add(T): O(n)</li>
  *   <li>remove(T): O(n)</li>
@@ -48,6 +59,23 @@ import java.util.stream.StreamSupport;
  *   <li>first()/last(): O(1)</li>
  *   <li>size()/isEmpty(): O(1)</li>
  * </ul>
+ * <p>
+ * With {@link SearchMode#SKIP_LIST}, add(T), remove(T), contains(T), get(int),
+ * removeAt(int), indexOf(T) and rankOf(T) become expected O(log n), and count(T)
+ * becomes O(log n) plus the number of matches.
+ * </p>
+ * <p>
+ * With {@link SearchMode#FINGER}, add(T), remove(T), contains(T) and count(T)
+ * start from the most recently accessed node, so their cost is proportional to the
+ * distance from that position rather than to the list size.
+ * </p>
+ * <p>
+ * Bulk loading through addAll(Collection) sorts the batch and merges it in a
+ * single pass: O(m log m + n) for m new values. mergeFrom(SortedLinkedList) and
+ * merged(SortedLinkedList, SortedLinkedList) combine two lists in O(n + m).
+ * fromSortedIntegers and fromSortedStrings build a list from already ascending
+ * input in O(n).
+ * </p>
  *
  * <h2>Example Usage</h2>
  * <pre>{@code
@@ -65,25 +93,42 @@ import java.util.stream.StreamSupport;
  *
  * @param <T> the type of elements in this list (String or Integer)
  * @author ShipMonk Task Implementation
+ * @see SortedList
  * @see #ofStrings()
  * @see #ofIntegers()
  */
-public final class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+public final class SortedLinkedList<T extends Comparable<T>> implements SortedList<T> {
 
     private Node<T> head;
     private Node<T> tail;
     private int size;
     private int modCount;
+    private final SearchMode searchMode;
+    private final SkipListIndex<T> skipList;
+    private final NodePool<T> nodePool;
+    private Node<T> finger;
+    private int generation;
 
     /**
      * Private constructor to enforce factory method usage.
      * This ensures only String or Integer types can be used.
+     *
+     * @param searchMode       the strategy used to locate positions in the list
+     * @param nodePoolCapacity the number of removed nodes kept for reuse, or 0 to disable pooling
      */
-    private SortedLinkedList() {
+    private SortedLinkedList(SearchMode searchMode, int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity cannot be negative: " + nodePoolCapacity);
+        }
         this.head = null;
         this.tail = null;
         this.size = 0;
         this.modCount = 0;
+        this.searchMode = searchMode;
+        this.skipList = searchMode == SearchMode.SKIP_LIST ? new SkipListIndex<>() : null;
+        this.nodePool = nodePoolCapacity > 0 ? new NodePool<>(nodePoolCapacity) : null;
+        this.finger = null;
+        this.generation = 0;
     }
 
     /**
@@ -92,7 +137,36 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return a new empty SortedLinkedList for Strings
      */
     public static SortedLinkedList<String> ofStrings() {
-        return new SortedLinkedList<>();
+        return ofStrings(SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a new empty sorted linked list for String values using the given search mode.
+     *
+     * @param searchMode the strategy used to locate positions in the list
+     * @return a new empty SortedLinkedList for Strings
+     * @throws NullPointerException if the search mode is null
+     */
+    public static SortedLinkedList<String> ofStrings(SearchMode searchMode) {
+        return ofStrings(searchMode, 0);
+    }
+
+    /**
+     * Creates a new empty sorted linked list for String values that recycles removed nodes.
+     * <p>
+     * Up to {@code nodePoolCapacity} removed nodes are kept and reused by later inserts,
+     * which removes allocation churn from workloads that add and remove at a high rate.
+     * </p>
+     *
+     * @param searchMode       the strategy used to locate positions in the list
+     * @param nodePoolCapacity the number of removed nodes kept for reuse, or 0 to disable pooling
+     * @return a new empty SortedLinkedList for Strings
+     * @throws NullPointerException     if the search mode is null
+     * @throws IllegalArgumentException if the pool capacity is negative
+     */
+    public static SortedLinkedList<String> ofStrings(SearchMode searchMode, int nodePoolCapacity) {
+        Objects.requireNonNull(searchMode, "Search mode cannot be null");
+        return new SortedLinkedList<>(searchMode, nodePoolCapacity);
     }
 
     /**
@@ -101,7 +175,36 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return a new empty SortedLinkedList for Integers
      */
     public static SortedLinkedList<Integer> ofIntegers() {
-        return new SortedLinkedList<>();
+        return ofIntegers(SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a new empty sorted linked list for Integer values using the given search mode.
+     *
+     * @param searchMode the strategy used to locate positions in the list
+     * @return a new empty SortedLinkedList for Integers
+     * @throws NullPointerException if the search mode is null
+     */
+    public static SortedLinkedList<Integer> ofIntegers(SearchMode searchMode) {
+        return ofIntegers(searchMode, 0);
+    }
+
+    /**
+     * Creates a new empty sorted linked list for Integer values that recycles removed nodes.
+     * <p>
+     * Up to {@code nodePoolCapacity} removed nodes are kept and reused by later inserts,
+     * which removes allocation churn from workloads that add and remove at a high rate.
+     * </p>
+     *
+     * @param searchMode       the strategy used to locate positions in the list
+     * @param nodePoolCapacity the number of removed nodes kept for reuse, or 0 to disable pooling
+     * @return a new empty SortedLinkedList for Integers
+     * @throws NullPointerException     if the search mode is null
+     * @throws IllegalArgumentException if the pool capacity is negative
+     */
+    public static SortedLinkedList<Integer> ofIntegers(SearchMode searchMode, int nodePoolCapacity) {
+        Objects.requireNonNull(searchMode, "Search mode cannot be null");
+        return new SortedLinkedList<>(searchMode, nodePoolCapacity);
     }
 
     /**
@@ -114,25 +217,57 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @param value the value to add (must not be null)
      * @throws NullPointerException if the value is null
      */
+    @Override
     public void add(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
+        addNode(value);
+    }
 
-        Node<T> newNode = new Node<>(value);
+    /**
+     * Adds a value to the list and returns a handle to the inserted occurrence.
+     * <p>
+     * The value is placed exactly as by {@link #add(Comparable)}. The handle can later be
+     * passed to {@link #removeByHandle(ElementHandle)} to remove this occurrence without
+     * searching for it.
+     * </p>
+     *
+     * @param value the value to add (must not be null)
+     * @return a handle to the inserted element
+     * @throws NullPointerException if the value is null
+     */
+    public ElementHandle<T> addAndGetHandle(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        Node<T> node = addNode(value);
+        if (nodePool != null) {
+            nodePool.pin(node);
+        }
+        return new ElementHandle<>(this, node, generation);
+    }
+
+    /**
+     * Internal helper method to insert a new node holding the value at its sorted position.
+     *
+     * @param value the value to add
+     * @return the inserted node
+     */
+    private Node<T> addNode(T value) {
+        Node<T> newNode = newNode(value);
         modCount++;
 
-        if (head == null) {
+        if (skipList != null) {
+            linkAfter(skipList.insert(newNode, head), newNode);
+        } else if (head == null) {
             head = newNode;
             tail = newNode;
         } else if (value.compareTo(head.getValue()) < 0) {
             // Insert at head
-            newNode.setNext(head);
-            head.setPrev(newNode);
-            head = newNode;
+            linkAfter(null, newNode);
         } else if (value.compareTo(tail.getValue()) >= 0) {
             // Insert at tail
-            tail.setNext(newNode);
-            newNode.setPrev(tail);
-            tail = newNode;
+            linkAfter(tail, newNode);
+        } else if (searchMode == SearchMode.FINGER) {
+            // Insert in the middle - search outwards from the last accessed node
+            linkAfter(fingerPredecessor(value), newNode);
         } else {
             // Insert in the middle - find the correct position
             Node<T> current = head;
@@ -140,14 +275,480 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
                 current = current.getNext();
             }
             // Insert before current
-            Node<T> prev = current.getPrev();
-            prev.setNext(newNode);
-            newNode.setPrev(prev);
-            newNode.setNext(current);
-            current.setPrev(newNode);
+            linkAfter(current.getPrev(), newNode);
         }
 
+        if (searchMode == SearchMode.FINGER) {
+            finger = newNode;
+        }
         size++;
+        return newNode;
+    }
+
+    /**
+     * Adds all values of a collection to the list while maintaining sorted order.
+     * <p>
+     * The batch is sorted once and merged into the node chain in a single linear
+     * pass, so loading m values costs O(m log m + n) instead of O(n * m).
+     * The modification count is bumped once for the whole batch. With a skip-list
+     * index, small batches are inserted through the index and large batches are
+     * merged and the index is rebuilt in one pass.
+     * </p>
+     *
+     * @param values the values to add
+     * @throws NullPointerException if the collection or any of its values is null
+     */
+    @Override
+    public void addAll(Collection<? extends T> values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        addBatch(values.toArray());
+    }
+
+    /**
+     * Adds all values of an array to the list while maintaining sorted order.
+     * <p>
+     * Behaves like {@link #addAll(Collection)}; the given array is not modified.
+     * </p>
+     *
+     * @param values the values to add
+     * @throws NullPointerException if the array or any of its values is null
+     */
+    @Override
+    public void addAll(T[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        addBatch(Arrays.copyOf(values, values.length, Object[].class));
+    }
+
+    /**
+     * Internal helper method to sort a private copy of a batch and merge it into the chain.
+     *
+     * @param batch the values to add; the array is sorted in place
+     */
+    @SuppressWarnings("unchecked")
+    private void addBatch(Object[] batch) {
+        for (Object value : batch) {
+            Objects.requireNonNull(value, "Value cannot be null");
+        }
+        if (batch.length == 0) {
+            return;
+        }
+        // Stable sort keeps equal values of the batch in their original order
+        Arrays.sort(batch);
+        modCount++;
+
+        if (skipList != null && batch.length * (Integer.SIZE - Integer.numberOfLeadingZeros(size)) < size) {
+            for (Object value : batch) {
+                Node<T> newNode = newNode((T) value);
+                linkAfter(skipList.insert(newNode, head), newNode);
+                size++;
+            }
+            return;
+        }
+
+        Node<T> prev = null;
+        Node<T> current = head;
+        for (Object element : batch) {
+            T value = (T) element;
+            while (current != null && current.getValue().compareTo(value) <= 0) {
+                prev = current;
+                current = current.getNext();
+            }
+            Node<T> newNode = newNode(value);
+            linkAfter(prev, newNode);
+            prev = newNode;
+        }
+        size += batch.length;
+
+        if (skipList != null) {
+            skipList.rebuild(head, size);
+        }
+    }
+
+    /**
+     * Moves all elements of another list into this list.
+     * <p>
+     * The nodes of the other list are spliced into this list in a single O(n + m)
+     * pass without allocating new nodes. Elements of the other list are placed
+     * after existing equal elements of this list. The other list is left empty,
+     * and iterators of both lists are invalidated.
+     * </p>
+     *
+     * @param other the list whose elements are moved into this list
+     * @throws NullPointerException     if the other list is null
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void mergeFrom(SortedLinkedList<T> other) {
+        Objects.requireNonNull(other, "Other list cannot be null");
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge a list into itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+
+        modCount++;
+        Node<T> prev = null;
+        Node<T> current = head;
+        Node<T> incoming = other.head;
+        while (incoming != null) {
+            if (current == null) {
+                // Everything left in the other list is not less than our tail
+                incoming.setPrev(tail);
+                if (tail == null) {
+                    head = incoming;
+                } else {
+                    tail.setNext(incoming);
+                }
+                tail = other.tail;
+                break;
+            }
+            Node<T> nextIncoming = incoming.getNext();
+            while (current != null && current.getValue().compareTo(incoming.getValue()) <= 0) {
+                prev = current;
+                current = current.getNext();
+            }
+            linkAfter(prev, incoming);
+            prev = incoming;
+            incoming = nextIncoming;
+        }
+        size += other.size;
+
+        if (skipList != null) {
+            skipList.rebuild(head, size);
+        }
+        other.clear();
+    }
+
+    /**
+     * Returns a new list containing the elements of both lists in sorted order.
+     * <p>
+     * The result is built in a single O(n + m) pass without comparisons against
+     * already merged elements. Elements of {@code second} are placed after equal
+     * elements of {@code first}. Neither input list is modified, and the result
+     * uses the search mode of {@code first}.
+     * </p>
+     *
+     * @param first  the first list
+     * @param second the second list
+     * @param <T>    the type of elements (String or Integer)
+     * @return a new list containing the elements of both lists
+     * @throws NullPointerException if either list is null
+     */
+    public static <T extends Comparable<T>> SortedLinkedList<T> merged(SortedLinkedList<T> first,
+                                                                      SortedLinkedList<T> second) {
+        Objects.requireNonNull(first, "First list cannot be null");
+        Objects.requireNonNull(second, "Second list cannot be null");
+
+        SortedLinkedList<T> result = new SortedLinkedList<>(
+                first.searchMode, first.nodePool == null ? 0 : first.nodePool.capacity());
+        Node<T> left = first.head;
+        Node<T> right = second.head;
+        while (left != null || right != null) {
+            if (right == null || (left != null && left.getValue().compareTo(right.getValue()) <= 0)) {
+                result.linkAfter(result.tail, result.newNode(left.getValue()));
+                left = left.getNext();
+            } else {
+                result.linkAfter(result.tail, result.newNode(right.getValue()));
+                right = right.getNext();
+            }
+        }
+        result.size = first.size + second.size;
+
+        if (result.skipList != null) {
+            result.skipList.rebuild(result.head, result.size);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a list of Integers from values that are already in ascending order.
+     *
+     * @param values the values in ascending order
+     * @return a new list holding the values
+     * @throws NullPointerException     if the iterator or any value is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     * @see #fromSortedIntegers(Iterator, SearchMode)
+     */
+    public static SortedLinkedList<Integer> fromSortedIntegers(Iterator<Integer> values) {
+        return fromSortedIntegers(values, SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a list of Integers from values that are already in ascending order.
+     * <p>
+     * Each value is compared only with its predecessor and appended at the tail, and a
+     * skip-list index is built bottom-up in one pass afterwards, so construction takes O(n)
+     * instead of the O(n log n) or O(n^2) of repeated add(T) calls. The values are consumed
+     * lazily; if one is out of order, construction stops there with an exception.
+     * </p>
+     *
+     * @param values     the values in ascending order
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the values
+     * @throws NullPointerException     if the iterator, any value or the search mode is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     */
+    public static SortedLinkedList<Integer> fromSortedIntegers(Iterator<Integer> values, SearchMode searchMode) {
+        return fromSorted(values, ofIntegers(searchMode));
+    }
+
+    /**
+     * Creates a list of Integers from a stream of values that are already in ascending order.
+     *
+     * @param values the values in ascending order
+     * @return a new list holding the values
+     * @throws NullPointerException     if the stream or any value is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     * @see #fromSortedIntegers(Iterator, SearchMode)
+     */
+    public static SortedLinkedList<Integer> fromSortedIntegers(Stream<Integer> values) {
+        return fromSortedIntegers(values, SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a list of Integers from a stream of values that are already in ascending order.
+     * <p>
+     * Behaves like {@link #fromSortedIntegers(Iterator, SearchMode)}.
+     * </p>
+     *
+     * @param values     the values in ascending order
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the values
+     * @throws NullPointerException     if the stream, any value or the search mode is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     */
+    public static SortedLinkedList<Integer> fromSortedIntegers(Stream<Integer> values, SearchMode searchMode) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        return fromSortedIntegers(values.iterator(), searchMode);
+    }
+
+    /**
+     * Creates a list of Strings from values that are already in ascending order.
+     *
+     * @param values the values in ascending order
+     * @return a new list holding the values
+     * @throws NullPointerException     if the iterator or any value is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     * @see #fromSortedIntegers(Iterator, SearchMode)
+     */
+    public static SortedLinkedList<String> fromSortedStrings(Iterator<String> values) {
+        return fromSortedStrings(values, SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a list of Strings from values that are already in ascending order.
+     * <p>
+     * Behaves like {@link #fromSortedIntegers(Iterator, SearchMode)}.
+     * </p>
+     *
+     * @param values     the values in ascending order
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the values
+     * @throws NullPointerException     if the iterator, any value or the search mode is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     */
+    public static SortedLinkedList<String> fromSortedStrings(Iterator<String> values, SearchMode searchMode) {
+        return fromSorted(values, ofStrings(searchMode));
+    }
+
+    /**
+     * Creates a list of Strings from a stream of values that are already in ascending order.
+     *
+     * @param values the values in ascending order
+     * @return a new list holding the values
+     * @throws NullPointerException     if the stream or any value is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     * @see #fromSortedIntegers(Iterator, SearchMode)
+     */
+    public static SortedLinkedList<String> fromSortedStrings(Stream<String> values) {
+        return fromSortedStrings(values, SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a list of Strings from a stream of values that are already in ascending order.
+     * <p>
+     * Behaves like {@link #fromSortedIntegers(Iterator, SearchMode)}.
+     * </p>
+     *
+     * @param values     the values in ascending order
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the values
+     * @throws NullPointerException     if the stream, any value or the search mode is null
+     * @throws IllegalArgumentException if the values are not in ascending order
+     */
+    public static SortedLinkedList<String> fromSortedStrings(Stream<String> values, SearchMode searchMode) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        return fromSortedStrings(values.iterator(), searchMode);
+    }
+
+    /**
+     * Internal helper method to append already sorted values to an empty list.
+     *
+     * @param values the values in ascending order
+     * @param list   the empty list to fill
+     * @param <T>    the type of elements
+     * @return the filled list
+     */
+    private static <T extends Comparable<T>> SortedLinkedList<T> fromSorted(Iterator<T> values,
+                                                                            SortedLinkedList<T> list) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        int count = 0;
+        while (values.hasNext()) {
+            T value = Objects.requireNonNull(values.next(), "Value cannot be null");
+            if (list.tail != null && list.tail.getValue().compareTo(value) > 0) {
+                throw new IllegalArgumentException(
+                        "Values are not sorted: " + value + " at index " + count + " follows " + list.tail.getValue());
+            }
+            list.linkAfter(list.tail, list.newNode(value));
+            count++;
+        }
+        list.size = count;
+
+        if (list.skipList != null) {
+            list.skipList.rebuild(list.head, list.size);
+        }
+        return list;
+    }
+
+    /**
+     * Writes the elements of this list to a binary snapshot file.
+     * <p>
+     * The file is versioned and protected by a CRC-32 checksum. It is written to a temporary
+     * file first and then moved over the target, so an existing snapshot is only replaced by
+     * a complete one. Integers take 4 bytes each; strings take their UTF-8 length plus a
+     * 1-5 byte length prefix, and strings with unpaired surrogates are stored losslessly.
+     * </p>
+     *
+     * @param path the snapshot file to create or replace
+     * @throws NullPointerException if the path is null
+     * @throws IOException          if the file cannot be written
+     * @see #loadIntegerSnapshot(Path, SearchMode)
+     * @see #loadStringSnapshot(Path, SearchMode)
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        SnapshotFormat.write(path, this, size);
+    }
+
+    /**
+     * Loads a list of Integers from a snapshot file written by {@link #writeSnapshot(Path)}.
+     *
+     * @param path the snapshot file
+     * @return a new list holding the elements of the snapshot
+     * @throws NullPointerException if the path is null
+     * @throws IOException          if the file cannot be read, is corrupt or holds Strings
+     * @see #loadIntegerSnapshot(Path, SearchMode)
+     */
+    public static SortedLinkedList<Integer> loadIntegerSnapshot(Path path) throws IOException {
+        return loadIntegerSnapshot(path, SearchMode.LINEAR);
+    }
+
+    /**
+     * Loads a list of Integers from a snapshot file written by {@link #writeSnapshot(Path)}.
+     * <p>
+     * The file is memory-mapped and its checksum verified. Since snapshots are stored in
+     * ascending order, nodes are appended at the tail after one comparison with their
+     * predecessor, which rejects unsorted files, and a skip-list index is built bottom-up
+     * in one pass, so loading takes O(n).
+     * </p>
+     *
+     * @param path       the snapshot file
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the elements of the snapshot
+     * @throws NullPointerException if the path or the search mode is null
+     * @throws IOException          if the file cannot be read, is corrupt or holds Strings
+     */
+    public static SortedLinkedList<Integer> loadIntegerSnapshot(Path path, SearchMode searchMode) throws IOException {
+        return loadSnapshot(path, ofIntegers(searchMode), SnapshotFormat.TYPE_INTEGER);
+    }
+
+    /**
+     * Loads a list of Strings from a snapshot file written by {@link #writeSnapshot(Path)}.
+     *
+     * @param path the snapshot file
+     * @return a new list holding the elements of the snapshot
+     * @throws NullPointerException if the path is null
+     * @throws IOException          if the file cannot be read, is corrupt or holds Integers
+     * @see #loadStringSnapshot(Path, SearchMode)
+     */
+    public static SortedLinkedList<String> loadStringSnapshot(Path path) throws IOException {
+        return loadStringSnapshot(path, SearchMode.LINEAR);
+    }
+
+    /**
+     * Loads a list of Strings from a snapshot file written by {@link #writeSnapshot(Path)}.
+     * <p>
+     * Behaves like {@link #loadIntegerSnapshot(Path, SearchMode)}.
+     * </p>
+     *
+     * @param path       the snapshot file
+     * @param searchMode the strategy used to locate positions in the new list
+     * @return a new list holding the elements of the snapshot
+     * @throws NullPointerException if the path or the search mode is null
+     * @throws IOException          if the file cannot be read, is corrupt or holds Integers
+     */
+    public static SortedLinkedList<String> loadStringSnapshot(Path path, SearchMode searchMode) throws IOException {
+        return loadSnapshot(path, ofStrings(searchMode), SnapshotFormat.TYPE_STRING);
+    }
+
+    /**
+     * Internal helper method to append the elements of a snapshot to an empty list.
+     *
+     * @param path the snapshot file
+     * @param list the empty list to fill
+     * @param type the element type the list expects
+     * @param <T>  the type of elements
+     * @return the filled list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> SortedLinkedList<T> loadSnapshot(Path path, SortedLinkedList<T> list,
+                                                                              byte type) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        list.size = SnapshotFormat.read(path, type, value -> {
+            if (list.tail != null && list.tail.getValue().compareTo((T) value) > 0) {
+                // Reported as a corrupt snapshot by SnapshotFormat.read
+                throw new IllegalStateException("Snapshot values are not sorted: " + value);
+            }
+            list.linkAfter(list.tail, list.newNode((T) value));
+        });
+        if (list.skipList != null) {
+            list.skipList.rebuild(list.head, list.size);
+        }
+        return list;
+    }
+
+    /**
+     * Internal helper method to create a node, reusing a pooled node when pooling is enabled.
+     *
+     * @param value the value to store
+     * @return an unlinked node holding the value
+     */
+    private Node<T> newNode(T value) {
+        return nodePool == null ? new Node<>(value) : nodePool.obtain(value);
+    }
+
+    /**
+     * Internal helper method to link a node into the chain.
+     *
+     * @param prev the node after which to link, or null to link at the head
+     * @param node the node to link
+     */
+    private void linkAfter(Node<T> prev, Node<T> node) {
+        Node<T> next = prev == null ? head : prev.getNext();
+        node.setPrev(prev);
+        node.setNext(next);
+
+        if (prev == null) {
+            head = node;
+        } else {
+            prev.setNext(node);
+        }
+
+        if (next == null) {
+            tail = node;
+        } else {
+            next.setPrev(node);
+        }
     }
 
     /**
@@ -157,10 +758,11 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return true if the value was found and removed, false otherwise
      * @throws NullPointerException if the value is null
      */
+    @Override
     public boolean remove(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
 
-        Node<T> current = head;
+        Node<T> current = searchStart(value);
         while (current != null) {
             int cmp = current.getValue().compareTo(value);
             if (cmp == 0) {
@@ -182,11 +784,12 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return the number of elements removed
      * @throws NullPointerException if the value is null
      */
+    @Override
     public int removeAll(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
 
         int removedCount = 0;
-        Node<T> current = head;
+        Node<T> current = searchStart(value);
 
         while (current != null) {
             int cmp = current.getValue().compareTo(value);
@@ -213,6 +816,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return the element that was removed
      * @throws IndexOutOfBoundsException if the index is out of range
      */
+    @Override
     public T removeAt(int index) {
         checkIndex(index);
         Node<T> node = getNodeAt(index);
@@ -221,6 +825,119 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
         return value;
     }
 
+    /**
+     * Removes the element referenced by a handle.
+     * <p>
+     * The node is unlinked directly, so no search is needed; only a skip-list index,
+     * if present, is updated in expected O(log n). Exactly the occurrence the handle
+     * was issued for is removed, never an equal element.
+     * </p>
+     *
+     * @param handle a handle returned by {@link #addAndGetHandle(Comparable)} on this list
+     * @return true if the element was removed, false if the handle is stale because the
+     * element was already removed or the list was cleared
+     * @throws NullPointerException     if the handle is null
+     * @throws IllegalArgumentException if the handle was issued by another list
+     */
+    public boolean removeByHandle(ElementHandle<T> handle) {
+        Objects.requireNonNull(handle, "Handle cannot be null");
+        if (handle.list() != this) {
+            throw new IllegalArgumentException("Handle belongs to another list");
+        }
+        if (!isLinked(handle)) {
+            return false;
+        }
+        removeNode(handle.node());
+        return true;
+    }
+
+    /**
+     * Changes the value of the element referenced by a handle and moves it to its new
+     * sorted position.
+     * <p>
+     * The node is not searched for from the head: it is walked forward or backward from
+     * its current position and relinked there, so a small change of the value costs
+     * O(distance moved). With a skip-list index the node is instead re-indexed in expected
+     * O(log n) unless it stays in place. As with {@link #add(Comparable)}, the updated element
+     * is placed after existing equal elements. The handle stays valid.
+     * </p>
+     *
+     * @param handle   a handle returned by {@link #addAndGetHandle(Comparable)} on this list
+     * @param newValue the new value (must not be null)
+     * @return true if the element was updated, false if the handle is stale
+     * @throws NullPointerException     if the handle or the new value is null
+     * @throws IllegalArgumentException if the handle was issued by another list
+     */
+    public boolean update(ElementHandle<T> handle, T newValue) {
+        Objects.requireNonNull(handle, "Handle cannot be null");
+        Objects.requireNonNull(newValue, "Value cannot be null");
+        if (handle.list() != this) {
+            throw new IllegalArgumentException("Handle belongs to another list");
+        }
+        if (!isLinked(handle)) {
+            return false;
+        }
+
+        Node<T> node = handle.node();
+        Node<T> prev = node.getPrev();
+        Node<T> next = node.getNext();
+        modCount++;
+        if (searchMode == SearchMode.FINGER) {
+            finger = node;
+        }
+
+        if ((prev == null || prev.getValue().compareTo(newValue) <= 0)
+                && (next == null || next.getValue().compareTo(newValue) > 0)) {
+            // Already at the right position
+            node.setValue(newValue);
+            return true;
+        }
+
+        if (skipList != null) {
+            skipList.remove(node, head);
+            unlink(node);
+            node.setValue(newValue);
+            linkAfter(skipList.insert(node, head), node);
+            return true;
+        }
+
+        unlink(node);
+        node.setValue(newValue);
+        if (prev != null && prev.getValue().compareTo(newValue) > 0) {
+            // Move towards the head
+            while (prev != null && prev.getValue().compareTo(newValue) > 0) {
+                prev = prev.getPrev();
+            }
+            linkAfter(prev, node);
+        } else {
+            // Move towards the tail, past equal elements
+            while (next.getNext() != null && next.getNext().getValue().compareTo(newValue) <= 0) {
+                next = next.getNext();
+            }
+            linkAfter(next, node);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the node referenced by a handle is still linked into this list.
+     * <p>
+     * Removed nodes have their links cleared, and a node that was merely moved keeps a
+     * predecessor pointing back at it. Clearing the list bumps its generation, which
+     * invalidates all previously issued handles at once.
+     * </p>
+     *
+     * @param handle the handle to check
+     * @return true if the referenced node is part of this list
+     */
+    boolean isLinked(ElementHandle<T> handle) {
+        if (handle.list() != this || handle.generation() != generation) {
+            return false;
+        }
+        Node<T> node = handle.node();
+        return node.getPrev() == null ? head == node : node.getPrev().getNext() == node;
+    }
+
     /**
      * Internal helper method to remove a node from the list.
      *
@@ -229,6 +946,30 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
     private void removeNode(Node<T> node) {
         modCount++;
 
+        if (skipList != null) {
+            skipList.remove(node, head);
+        }
+        if (node == finger) {
+            finger = node.getNext() != null ? node.getNext() : node.getPrev();
+        }
+
+        unlink(node);
+        // Drop the links so that a removed node does not keep live nodes reachable
+        node.setNext(null);
+        node.setPrev(null);
+        if (nodePool != null) {
+            nodePool.release(node);
+        }
+        size--;
+    }
+
+    /**
+     * Internal helper method to detach a node from its neighbors.
+     * The node keeps its own links; the size and the index are not changed.
+     *
+     * @param node the node to detach
+     */
+    private void unlink(Node<T> node) {
         if (node.getPrev() != null) {
             node.getPrev().setNext(node.getNext());
         } else {
@@ -240,8 +981,6 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
         } else {
             tail = node.getPrev();
         }
-
-        size--;
     }
 
     /**
@@ -251,10 +990,11 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return true if the value is found, false otherwise
      * @throws NullPointerException if the value is null
      */
+    @Override
     public boolean contains(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
 
-        Node<T> current = head;
+        Node<T> current = searchStart(value);
         while (current != null) {
             int cmp = current.getValue().compareTo(value);
             if (cmp == 0) {
@@ -274,12 +1014,14 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * This method is optimized to traverse from the nearest end of the list.
      * If the index is in the first half, traversal starts from the head.
      * If the index is in the second half, traversal starts from the tail.
+     * With a skip-list index the node is located in expected O(log n) instead.
      * </p>
      *
      * @param index the index of the element to return (0-based)
      * @return the element at the specified index
      * @throws IndexOutOfBoundsException if the index is out of range
      */
+    @Override
     public T get(int index) {
         checkIndex(index);
         return getNodeAt(index).getValue();
@@ -292,6 +1034,10 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return the node at the specified index
      */
     private Node<T> getNodeAt(int index) {
+        if (skipList != null) {
+            return skipList.nodeAt(index, head);
+        }
+
         Node<T> current;
         if (index < size / 2) {
             // Traverse from head
@@ -314,6 +1060,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return an Optional containing the first element, or empty if the list is empty
      */
+    @Override
     public Optional<T> first() {
         return head == null ? Optional.empty() : Optional.of(head.getValue());
     }
@@ -323,6 +1070,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return an Optional containing the last element, or empty if the list is empty
      */
+    @Override
     public Optional<T> last() {
         return tail == null ? Optional.empty() : Optional.of(tail.getValue());
     }
@@ -332,6 +1080,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return the number of elements
      */
+    @Override
     public int size() {
         return size;
     }
@@ -341,6 +1090,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return true if the list contains no elements
      */
+    @Override
     public boolean isEmpty() {
         return size == 0;
     }
@@ -348,11 +1098,21 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
     /**
      * Removes all elements from the list.
      */
+    @Override
     public void clear() {
         head = null;
         tail = null;
         size = 0;
         modCount++;
+        finger = null;
+        generation++;
+        if (nodePool != null) {
+            nodePool.unpinAll();
+        }
+
+        if (skipList != null) {
+            skipList.clear();
+        }
     }
 
     /**
@@ -362,11 +1122,12 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return the number of occurrences
      * @throws NullPointerException if the value is null
      */
+    @Override
     public int count(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
 
         int occurrences = 0;
-        Node<T> current = head;
+        Node<T> current = searchStart(value);
 
         while (current != null) {
             int cmp = current.getValue().compareTo(value);
@@ -390,6 +1151,7 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return a new ArrayList containing all elements in sorted order
      */
+    @Override
     public List<T> toList() {
         List<T> result = new ArrayList<>(size);
         Node<T> current = head;
@@ -405,12 +1167,46 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      *
      * @return a Stream over the elements in this list
      */
+    @Override
     public Stream<T> stream() {
-        return StreamSupport.stream(
-                Spliterators.spliterator(iterator(), size, 
-                        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED),
-                false
-        );
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream with this list as its source.
+     * <p>
+     * The stream is backed by {@link #spliterator()}, which splits the node chain
+     * at index midpoints, so each worker traverses its own part of the list.
+     * </p>
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    @Override
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a fail-fast Spliterator over the nodes of this list.
+     * <p>
+     * The Spliterator splits at the index midpoint of its remaining range. With a
+     * skip-list index the midpoint node is located in O(log n); otherwise it is
+     * reached by walking from the start of the range. Both halves report exact sizes.
+     * </p>
+     * <p>
+     * It reports {@link Spliterator#ORDERED}, {@link Spliterator#SORTED},
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#NONNULL}, and {@code getComparator()} returns null since
+     * elements are in natural order. Traversal throws
+     * {@link ConcurrentModificationException} if the list is structurally modified
+     * after the Spliterator is created.
+     * </p>
+     *
+     * @return a Spliterator over the elements in sorted order
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SortedLinkedListSpliterator(head, 0, size, modCount);
     }
 
     /**
@@ -434,9 +1230,15 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
      * @return the index of the first occurrence, or -1 if not found
      * @throws NullPointerException if the value is null
      */
+    @Override
     public int indexOf(T value) {
         Objects.requireNonNull(value, "Value cannot be null");
 
+        if (skipList != null) {
+            int rank = skipList.rank(value, false, head);
+            return rank < size && getNodeAt(rank).getValue().compareTo(value) == 0 ? rank : -1;
+        }
+
         Node<T> current = head;
         int index = 0;
 
@@ -454,6 +1256,384 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
         return -1;
     }
 
+    /**
+     * Returns the index at which the specified value would be inserted by {@link #add(Object)}.
+     * <p>
+     * Since duplicates are placed after existing equal elements, this is the number
+     * of elements less than or equal to the value. The list is not modified.
+     * With a skip-list index the rank is computed without scanning the elements.
+     * </p>
+     *
+     * @param value the value to rank
+     * @return the insertion index of the value
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int rankOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (skipList != null) {
+            return skipList.rank(value, true, head);
+        }
+
+        int rank = 0;
+        Node<T> current = head;
+        while (current != null && current.getValue().compareTo(value) <= 0) {
+            rank++;
+            current = current.getNext();
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of elements strictly less than the specified value.
+     * <p>
+     * With a skip-list index the count is derived from the index spans in expected
+     * O(log n) without visiting the counted elements; otherwise the list is scanned
+     * from the head.
+     * </p>
+     *
+     * @param value the exclusive upper bound
+     * @return the number of elements less than the value
+     * @throws NullPointerException if the value is null
+     */
+    public int countLessThan(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (skipList != null) {
+            return skipList.rank(value, false, head);
+        }
+
+        int count = 0;
+        Node<T> current = head;
+        while (current != null && current.getValue().compareTo(value) < 0) {
+            count++;
+            current = current.getNext();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements greater than or equal to {@code from} and
+     * strictly less than {@code to}.
+     * <p>
+     * With a skip-list index this is the difference of two ranks and takes expected
+     * O(log n); otherwise the list is scanned from the lower bound to the upper bound.
+     * </p>
+     *
+     * @param from the inclusive lower bound
+     * @param to   the exclusive upper bound
+     * @return the number of elements in {@code [from, to)}
+     * @throws NullPointerException     if either bound is null
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public int countInRange(T from, T to) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound must not be greater than upper bound");
+        }
+
+        if (skipList != null) {
+            return skipList.rank(to, false, head) - skipList.rank(from, false, head);
+        }
+
+        int count = 0;
+        Node<T> current = lowerBound(from);
+        while (current != null && current.getValue().compareTo(to) < 0) {
+            count++;
+            current = current.getNext();
+        }
+        return count;
+    }
+
+    /**
+     * Returns a view of the elements greater than or equal to {@code from} and
+     * strictly less than {@code to}.
+     * <p>
+     * The view is lazy and does not copy elements: each traversal seeks to the
+     * lower bound once, using the skip-list index or finger when present, and stops
+     * at the first element not less than the upper bound. Traversals are fail-fast
+     * and throw {@link ConcurrentModificationException} if the list is structurally
+     * modified after they start.
+     * </p>
+     *
+     * @param from the inclusive lower bound
+     * @param to   the exclusive upper bound
+     * @return a view of the elements in {@code [from, to)}
+     * @throws NullPointerException     if either bound is null
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public RangeView<T> range(T from, T to) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound must not be greater than upper bound");
+        }
+        return new RangeView<>(this, from, to);
+    }
+
+    /**
+     * Returns a view of the elements strictly less than {@code to}.
+     *
+     * @param to the exclusive upper bound
+     * @return a view of the elements less than {@code to}
+     * @throws NullPointerException if the bound is null
+     * @see #range(Comparable, Comparable)
+     */
+    public RangeView<T> headRange(T to) {
+        Objects.requireNonNull(to, "Upper bound cannot be null");
+        return new RangeView<>(this, null, to);
+    }
+
+    /**
+     * Returns a view of the elements greater than or equal to {@code from}.
+     *
+     * @param from the inclusive lower bound
+     * @return a view of the elements not less than {@code from}
+     * @throws NullPointerException if the bound is null
+     * @see #range(Comparable, Comparable)
+     */
+    public RangeView<T> tailRange(T from) {
+        Objects.requireNonNull(from, "Lower bound cannot be null");
+        return new RangeView<>(this, from, null);
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the specified value.
+     *
+     * @param value the value to search for
+     * @return an Optional containing the greatest element not greater than the value,
+     * or empty if there is no such element
+     * @throws NullPointerException if the value is null
+     * @see #boundary(Comparable, boolean)
+     */
+    public Optional<T> floor(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        Node<T> boundary = boundary(value, true);
+        return valueOf(boundary == null ? tail : boundary.getPrev());
+    }
+
+    /**
+     * Returns the least element greater than or equal to the specified value.
+     *
+     * @param value the value to search for
+     * @return an Optional containing the least element not less than the value,
+     * or empty if there is no such element
+     * @throws NullPointerException if the value is null
+     * @see #boundary(Comparable, boolean)
+     */
+    public Optional<T> ceiling(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return valueOf(boundary(value, false));
+    }
+
+    /**
+     * Returns the least element strictly greater than the specified value.
+     *
+     * @param value the value to search for
+     * @return an Optional containing the least element greater than the value,
+     * or empty if there is no such element
+     * @throws NullPointerException if the value is null
+     * @see #boundary(Comparable, boolean)
+     */
+    public Optional<T> higher(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return valueOf(boundary(value, true));
+    }
+
+    /**
+     * Returns the greatest element strictly less than the specified value.
+     *
+     * @param value the value to search for
+     * @return an Optional containing the greatest element less than the value,
+     * or empty if there is no such element
+     * @throws NullPointerException if the value is null
+     * @see #boundary(Comparable, boolean)
+     */
+    public Optional<T> lower(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        Node<T> boundary = boundary(value, false);
+        return valueOf(boundary == null ? tail : boundary.getPrev());
+    }
+
+    /**
+     * Returns the first node whose value is not less than (or, if {@code inclusive},
+     * greater than) the specified value.
+     * <p>
+     * With a skip-list index the node is found in expected O(log n), and with a finger
+     * the search starts from the last accessed node. In linear mode the chain is walked
+     * from the head and from the tail in lockstep, so probes near either end of the list
+     * are answered after a few steps and no probe costs more than about n / 2 steps.
+     * </p>
+     *
+     * @param value     the value to search for
+     * @param inclusive whether nodes equal to the value are skipped
+     * @return the first qualifying node, or null if every node precedes the value
+     */
+    private Node<T> boundary(T value, boolean inclusive) {
+        if (head == null) {
+            return null;
+        }
+        if (skipList != null) {
+            Node<T> predecessor = skipList.findLast(value, inclusive, head);
+            return predecessor == null ? head : predecessor.getNext();
+        }
+        if (searchMode == SearchMode.FINGER) {
+            return fingerBoundary(value, inclusive);
+        }
+
+        Node<T> front = head;
+        Node<T> back = tail;
+        while (true) {
+            if (front == null || !precedes(front.getValue(), value, inclusive)) {
+                return front;
+            }
+            if (precedes(back.getValue(), value, inclusive)) {
+                return back.getNext();
+            }
+            front = front.getNext();
+            back = back.getPrev();
+        }
+    }
+
+    /**
+     * Checks whether an element comes before the boundary of the specified value.
+     *
+     * @param element   the element to test
+     * @param value     the value defining the boundary
+     * @param inclusive whether an element equal to the value also comes before it
+     * @return true if the element is less than (or, if inclusive, equal to) the value
+     */
+    private static <T extends Comparable<T>> boolean precedes(T element, T value, boolean inclusive) {
+        int cmp = element.compareTo(value);
+        return cmp < 0 || (inclusive && cmp == 0);
+    }
+
+    /**
+     * Wraps the value of a node in an Optional.
+     *
+     * @param node the node, or null
+     * @return an Optional containing the node's value, or empty if the node is null
+     */
+    private Optional<T> valueOf(Node<T> node) {
+        return node == null ? Optional.empty() : Optional.of(node.getValue());
+    }
+
+    /**
+     * Returns the first node not less than the value, or the head if the value is null.
+     *
+     * @param value the lower bound, or null for no bound
+     * @return the first node not less than the value, or null if every node is less
+     */
+    Node<T> lowerBound(T value) {
+        if (value == null || head == null) {
+            return head;
+        }
+        if (skipList != null || searchMode == SearchMode.FINGER) {
+            return searchStart(value);
+        }
+        Node<T> current = head;
+        while (current != null && current.getValue().compareTo(value) < 0) {
+            current = current.getNext();
+        }
+        return current;
+    }
+
+    /**
+     * Returns the node from which an exact-match scan for the value should start.
+     * <p>
+     * In linear mode this is the head. With a skip-list index or a finger it is the
+     * first node that is not less than the value, so the scan starts at the first match.
+     * </p>
+     *
+     * @param value the value being searched for
+     * @return the node to start scanning from, or null if no node can match
+     */
+    private Node<T> searchStart(T value) {
+        if (skipList != null) {
+            Node<T> predecessor = skipList.findLast(value, false, head);
+            return predecessor == null ? head : predecessor.getNext();
+        }
+        if (searchMode == SearchMode.FINGER && head != null) {
+            return fingerBoundary(value, false);
+        }
+        return head;
+    }
+
+    /**
+     * Returns the last node not greater than the value, searching outwards from the finger.
+     * The cost is proportional to the distance between the finger and the result.
+     *
+     * @param value the value being inserted
+     * @return the last node not greater than the value, or null if every node is greater
+     */
+    private Node<T> fingerPredecessor(T value) {
+        Node<T> current = finger != null ? finger : head;
+        if (current.getValue().compareTo(value) <= 0) {
+            while (current.getNext() != null && current.getNext().getValue().compareTo(value) <= 0) {
+                current = current.getNext();
+            }
+            return current;
+        }
+        while (current != null && current.getValue().compareTo(value) > 0) {
+            current = current.getPrev();
+        }
+        return current;
+    }
+
+    /**
+     * Returns the first node not less than (or, if {@code inclusive}, greater than) the value,
+     * searching outwards from the finger, and moves the finger there. The cost is proportional
+     * to the distance between the finger and the result.
+     *
+     * @param value     the value being searched for
+     * @param inclusive whether nodes equal to the value are skipped
+     * @return the first qualifying node, or null if every node precedes the value
+     */
+    private Node<T> fingerBoundary(T value, boolean inclusive) {
+        Node<T> current = finger != null ? finger : head;
+        if (precedes(current.getValue(), value, inclusive)) {
+            while (current != null && precedes(current.getValue(), value, inclusive)) {
+                current = current.getNext();
+            }
+        } else {
+            while (current.getPrev() != null && !precedes(current.getPrev().getValue(), value, inclusive)) {
+                current = current.getPrev();
+            }
+        }
+        finger = current != null ? current : tail;
+        return current;
+    }
+
+    /**
+     * Returns the number of inserts that reused a pooled node instead of allocating one.
+     *
+     * @return the node pool hit count, or 0 if node pooling is disabled
+     */
+    public long nodePoolHits() {
+        return nodePool == null ? 0 : nodePool.hits();
+    }
+
+    /**
+     * Returns the number of inserts that allocated a new node because the pool was empty.
+     *
+     * @return the node pool miss count, or 0 if node pooling is disabled
+     */
+    public long nodePoolMisses() {
+        return nodePool == null ? 0 : nodePool.misses();
+    }
+
+    /**
+     * Returns the structural modification count of this list.
+     * Used by wrappers that validate optimistic reads.
+     *
+     * @return the current modification count
+     */
+    int modCount() {
+        return modCount;
+    }
+
     /**
      * Validates that the index is within bounds.
      *
@@ -571,4 +1751,105 @@ public final class SortedLinkedList<T extends Comparable<T>> implements Iterable
             }
         }
     }
+
+    /**
+     * Fail-fast Spliterator over a contiguous range of nodes.
+     */
+    private class SortedLinkedListSpliterator implements Spliterator<T> {
+
+        private Node<T> current;
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        /**
+         * @param current          the node at {@code index}
+         * @param index            the position of the first remaining element
+         * @param fence            one past the position of the last element
+         * @param expectedModCount the modification count the range was taken at
+         */
+        SortedLinkedListSpliterator(Node<T> current, int index, int fence, int expectedModCount) {
+            this.current = current;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            if (index >= fence) {
+                return false;
+            }
+            T value = current.getValue();
+            current = current.getNext();
+            index++;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            Node<T> node = current;
+            for (int i = index; i < fence; i++) {
+                action.accept(node.getValue());
+                node = node.getNext();
+            }
+            current = node;
+            index = fence;
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            checkForComodification();
+            int remaining = fence - index;
+            if (remaining < 2) {
+                return null;
+            }
+
+            int mid = index + (remaining >>> 1);
+            Node<T> midNode;
+            if (skipList != null) {
+                midNode = skipList.nodeAt(mid, head);
+            } else {
+                midNode = current;
+                for (int i = index; i < mid; i++) {
+                    midNode = midNode.getNext();
+                }
+            }
+
+            Spliterator<T> prefix = new SortedLinkedListSpliterator(current, index, mid, expectedModCount);
+            current = midNode;
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED
+                    | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
 }
@@ -0,0 +1,256 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A list that maintains its elements in ascending natural order.
+ * <p>
+ * This is the common API of the sorted list implementations in this package.
+ * Implementations differ only in their storage layout and performance
+ * characteristics; all of them share the following semantics:
+ * </p>
+ * <ul>
+ *   <li>Elements are always maintained in ascending natural order</li>
+ *   <li>Duplicates are allowed and are placed after existing equal elements</li>
+ *   <li>Null values are rejected with {@link NullPointerException}</li>
+ *   <li>Iterators are fail-fast and throw {@link ConcurrentModificationException}</li>
+ * </ul>
+ * <p>
+ * Implementations are created through factory methods that only accept
+ * {@link String} or {@link Integer} element types.
+ * </p>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedLinkedList
+ * @see UnrolledSortedLinkedList
+ * @see ArenaSortedLinkedList
+ * @see OffHeapSortedLinkedList
+ * @see RunLengthSortedLinkedList
+ * @see FrontCodedSortedLinkedList
+ * @see RoaringSortedList
+ */
+public interface SortedList<T extends Comparable<T>> extends Iterable<T> {
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * Duplicates are placed after existing equal elements.
+     *
+     * @param value the value to add (must not be null)
+     * @throws NullPointerException if the value is null
+     */
+    void add(T value);
+
+    /**
+     * Adds all values of a collection to the list while maintaining sorted order.
+     * <p>
+     * Equal values from the collection are placed after existing equal elements,
+     * in the collection's iteration order. If any value is null, the list is left
+     * unchanged.
+     * </p>
+     *
+     * @param values the values to add
+     * @throws NullPointerException if the collection or any of its values is null
+     */
+    default void addAll(Collection<? extends T> values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        for (T value : values) {
+            Objects.requireNonNull(value, "Value cannot be null");
+        }
+        for (T value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds all values of an array to the list while maintaining sorted order.
+     * <p>
+     * Equal values from the array are placed after existing equal elements,
+     * in array order. If any value is null, the list is left unchanged.
+     * </p>
+     *
+     * @param values the values to add
+     * @throws NullPointerException if the array or any of its values is null
+     */
+    default void addAll(T[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+        addAll(Arrays.asList(values));
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    boolean remove(T value);
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the value is null
+     */
+    int removeAll(T value);
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to remove (0-based)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    T removeAt(int index);
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    boolean contains(T value);
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the index of the element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    T get(int index);
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1 if not found
+     * @throws NullPointerException if the value is null
+     */
+    int indexOf(T value);
+
+    /**
+     * Returns the index at which the specified value would be inserted by {@link #add(Comparable)},
+     * i.e. the number of elements less than or equal to the value.
+     *
+     * @param value the value to rank
+     * @return the insertion index of the value
+     * @throws NullPointerException if the value is null
+     */
+    int rankOf(T value);
+
+    /**
+     * Counts the number of occurrences of the specified value.
+     *
+     * @param value the value to count
+     * @return the number of occurrences
+     * @throws NullPointerException if the value is null
+     */
+    int count(T value);
+
+    /**
+     * Returns the first (smallest) element in the list.
+     *
+     * @return an Optional containing the first element, or empty if the list is empty
+     */
+    Optional<T> first();
+
+    /**
+     * Returns the last (largest) element in the list.
+     *
+     * @return an Optional containing the last element, or empty if the list is empty
+     */
+    Optional<T> last();
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list contains no elements
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    void clear();
+
+    /**
+     * Returns a copy of the list contents as an ArrayList.
+     *
+     * @return a new ArrayList containing all elements in sorted order
+     */
+    default List<T> toList() {
+        List<T> result = new ArrayList<>(size());
+        for (T element : this) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sequential Stream with this list as its source.
+     *
+     * @return a Stream over the elements in this list
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream with this list as its source.
+     * <p>
+     * How well the work is divided between threads depends on the
+     * {@link #spliterator()} of the implementation.
+     * </p>
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a Spliterator over the elements in this list.
+     * <p>
+     * The default implementation wraps {@link #iterator()} and can only split by
+     * copying prefixes into arrays. It reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SORTED}, {@link Spliterator#SIZED} and {@link Spliterator#NONNULL}.
+     * </p>
+     *
+     * @return a Spliterator over the elements in sorted order
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    Iterator<T> iterator();
+}
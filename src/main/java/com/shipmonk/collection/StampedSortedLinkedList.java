@@ -0,0 +1,302 @@
+package com.shipmonk.collection;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe sorted list that guards a private {@link SortedLinkedList} with a {@link StampedLock}.
+ * <p>
+ * Query methods first run as optimistic reads: they execute without acquiring any
+ * lock and the result is only accepted if neither the lock stamp nor the modification
+ * count of the underlying list changed in the meantime. Only when a writer interfered
+ * is the query repeated under a shared read lock. Readers therefore never block each
+ * other and, in read-mostly workloads, rarely touch the lock state at all. Mutations
+ * take the exclusive write lock.
+ * </p>
+ * <p>
+ * The underlying list is created by the factory methods and never exposed, so every
+ * access goes through the lock. {@link SearchMode#FINGER} is rejected because finger
+ * searches update the finger on reads, which cannot be done without exclusive access.
+ * </p>
+ *
+ * <h2>Iteration</h2>
+ * <p>
+ * {@link #iterator()}, {@link #stream()} and {@link #toList()} operate on a snapshot
+ * taken under the read lock. They never throw
+ * {@link java.util.ConcurrentModificationException} and do not reflect later
+ * modifications. The snapshot iterator does not support {@code remove()}.
+ * </p>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedLinkedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class StampedSortedLinkedList<T extends Comparable<T>> implements SortedList<T> {
+
+    private final SortedLinkedList<T> list;
+    private final StampedLock lock;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     *
+     * @param list the list guarded by this instance
+     */
+    private StampedSortedLinkedList(SortedLinkedList<T> list) {
+        this.list = list;
+        this.lock = new StampedLock();
+    }
+
+    /**
+     * Creates a new empty thread-safe sorted list for String values.
+     *
+     * @return a new empty StampedSortedLinkedList for Strings
+     */
+    public static StampedSortedLinkedList<String> ofStrings() {
+        return ofStrings(SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a new empty thread-safe sorted list for String values using the given search mode.
+     *
+     * @param searchMode the strategy used to locate positions in the list
+     * @return a new empty StampedSortedLinkedList for Strings
+     * @throws NullPointerException     if the search mode is null
+     * @throws IllegalArgumentException if the search mode is {@link SearchMode#FINGER}
+     */
+    public static StampedSortedLinkedList<String> ofStrings(SearchMode searchMode) {
+        checkSearchMode(searchMode);
+        return new StampedSortedLinkedList<>(SortedLinkedList.ofStrings(searchMode));
+    }
+
+    /**
+     * Creates a new empty thread-safe sorted list for Integer values.
+     *
+     * @return a new empty StampedSortedLinkedList for Integers
+     */
+    public static StampedSortedLinkedList<Integer> ofIntegers() {
+        return ofIntegers(SearchMode.LINEAR);
+    }
+
+    /**
+     * Creates a new empty thread-safe sorted list for Integer values using the given search mode.
+     *
+     * @param searchMode the strategy used to locate positions in the list
+     * @return a new empty StampedSortedLinkedList for Integers
+     * @throws NullPointerException     if the search mode is null
+     * @throws IllegalArgumentException if the search mode is {@link SearchMode#FINGER}
+     */
+    public static StampedSortedLinkedList<Integer> ofIntegers(SearchMode searchMode) {
+        checkSearchMode(searchMode);
+        return new StampedSortedLinkedList<>(SortedLinkedList.ofIntegers(searchMode));
+    }
+
+    private static void checkSearchMode(SearchMode searchMode) {
+        Objects.requireNonNull(searchMode, "Search mode cannot be null");
+        if (searchMode == SearchMode.FINGER) {
+            throw new IllegalArgumentException("Finger search mutates the list on reads and cannot be shared");
+        }
+    }
+
+    @Override
+    public void add(T value) {
+        write(() -> list.add(value));
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> values) {
+        write(() -> list.addAll(values));
+    }
+
+    @Override
+    public void addAll(T[] values) {
+        write(() -> list.addAll(values));
+    }
+
+    @Override
+    public boolean remove(T value) {
+        long stamp = lock.writeLock();
+        try {
+            return list.remove(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int removeAll(T value) {
+        long stamp = lock.writeLock();
+        try {
+            return list.removeAll(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T removeAt(int index) {
+        long stamp = lock.writeLock();
+        try {
+            return list.removeAt(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        write(list::clear);
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return read(() -> list.contains(value));
+    }
+
+    @Override
+    public T get(int index) {
+        return read(() -> list.get(index));
+    }
+
+    @Override
+    public int indexOf(T value) {
+        return readInt(() -> list.indexOf(value));
+    }
+
+    @Override
+    public int rankOf(T value) {
+        return readInt(() -> list.rankOf(value));
+    }
+
+    @Override
+    public int count(T value) {
+        return readInt(() -> list.count(value));
+    }
+
+    @Override
+    public Optional<T> first() {
+        return read(list::first);
+    }
+
+    @Override
+    public Optional<T> last() {
+        return read(list::last);
+    }
+
+    @Override
+    public int size() {
+        return readInt(list::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readInt(list::size) == 0;
+    }
+
+    /**
+     * Returns a snapshot of the list contents as an ArrayList.
+     *
+     * @return a new ArrayList containing all elements in sorted order
+     */
+    @Override
+    public List<T> toList() {
+        long stamp = lock.readLock();
+        try {
+            return list.toList();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in this list.
+     * <p>
+     * The iterator does not support {@code remove()}.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(toList()).iterator();
+    }
+
+    /**
+     * Runs a query as an optimistic read, falling back to the read lock if a writer interfered.
+     * <p>
+     * An optimistic read may observe the list mid-update and fail with a runtime
+     * exception; such failures are discarded and the query is repeated under the
+     * read lock, where genuine exceptions (for example an invalid index) propagate.
+     * </p>
+     */
+    private <R> R read(Supplier<R> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int version = list.modCount();
+            try {
+                R result = query.get();
+                if (lock.validate(stamp) && list.modCount() == version) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // Observed an inconsistent state; retry under the read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Primitive variant of {@link #read(Supplier)} that avoids boxing the result.
+     */
+    private int readInt(IntSupplier query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int version = list.modCount();
+            try {
+                int result = query.getAsInt();
+                if (lock.validate(stamp) && list.modCount() == version) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // Observed an inconsistent state; retry under the read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return query.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void write(Runnable mutation) {
+        long stamp = lock.writeLock();
+        try {
+            mutation.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+        try {
+            return list.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
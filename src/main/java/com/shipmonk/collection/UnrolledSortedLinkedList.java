@@ -0,0 +1,801 @@
+package com.shipmonk.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An unrolled sorted linked list that maintains elements in ascending natural order.
+ * <p>
+ * Instead of one node per element, every node (chunk) holds a small sorted array of
+ * values. Traversals hop from chunk to chunk and only touch the first or last value
+ * of each chunk, and the final search happens inside a contiguous array. This trades
+ * the O(1) splice of {@link SortedLinkedList} for far fewer pointer dereferences and
+ * cache misses on {@code contains} and {@code add}.
+ * </p>
+ * <p>
+ * A full chunk is split in half before an insert. A chunk that drops below a quarter
+ * of its capacity after a removal is merged with a neighbor when the two fit into one
+ * chunk. Removals through the iterator only unlink empty chunks, so that the iterator
+ * position stays valid.
+ * </p>
+ *
+ * <h2>Complexity</h2>
+ * <p>
+ * With n elements and chunk capacity B:
+ * </p>
+ * <ul>
+ *   <li>add(T)/remove(T)/contains(T)/indexOf(T)/rankOf(T): O(n/B + log B) comparisons, O(B) array moves</li>
+ *   <li>get(int)/removeAt(int): O(n/B) - optimized to traverse from nearest end</li>
+ *   <li>first()/last()/size()/isEmpty(): O(1)</li>
+ * </ul>
+ *
+ * @param <T> the type of elements in this list (String or Integer)
+ * @see SortedList
+ * @see #ofStrings()
+ * @see #ofIntegers()
+ */
+public final class UnrolledSortedLinkedList<T extends Comparable<T>> implements SortedList<T> {
+
+    /**
+     * Default number of values held by a single chunk.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /**
+     * Smallest chunk capacity accepted by the factory methods.
+     */
+    public static final int MIN_CHUNK_CAPACITY = 4;
+
+    private final int chunkCapacity;
+    private Chunk<T> head;
+    private Chunk<T> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Private constructor to enforce factory method usage.
+     * This ensures only String or Integer types can be used.
+     *
+     * @param chunkCapacity the number of values held by a single chunk
+     */
+    private UnrolledSortedLinkedList(int chunkCapacity) {
+        if (chunkCapacity < MIN_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Chunk capacity must be at least " + MIN_CHUNK_CAPACITY + ": " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates a new empty unrolled sorted linked list for String values.
+     *
+     * @return a new empty UnrolledSortedLinkedList for Strings
+     */
+    public static UnrolledSortedLinkedList<String> ofStrings() {
+        return new UnrolledSortedLinkedList<>(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty unrolled sorted linked list for String values.
+     *
+     * @param chunkCapacity the number of values held by a single chunk
+     * @return a new empty UnrolledSortedLinkedList for Strings
+     * @throws IllegalArgumentException if the capacity is below {@link #MIN_CHUNK_CAPACITY}
+     */
+    public static UnrolledSortedLinkedList<String> ofStrings(int chunkCapacity) {
+        return new UnrolledSortedLinkedList<>(chunkCapacity);
+    }
+
+    /**
+     * Creates a new empty unrolled sorted linked list for Integer values.
+     *
+     * @return a new empty UnrolledSortedLinkedList for Integers
+     */
+    public static UnrolledSortedLinkedList<Integer> ofIntegers() {
+        return new UnrolledSortedLinkedList<>(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty unrolled sorted linked list for Integer values.
+     *
+     * @param chunkCapacity the number of values held by a single chunk
+     * @return a new empty UnrolledSortedLinkedList for Integers
+     * @throws IllegalArgumentException if the capacity is below {@link #MIN_CHUNK_CAPACITY}
+     */
+    public static UnrolledSortedLinkedList<Integer> ofIntegers(int chunkCapacity) {
+        return new UnrolledSortedLinkedList<>(chunkCapacity);
+    }
+
+    /**
+     * Adds a value to the list while maintaining sorted order.
+     * <p>
+     * The value is inserted into the chunk that covers it, splitting that chunk first
+     * if it is full. Duplicates are allowed and will be placed after existing equal elements.
+     * </p>
+     *
+     * @param value the value to add (must not be null)
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public void add(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        modCount++;
+
+        if (head == null) {
+            head = new Chunk<>(chunkCapacity);
+            tail = head;
+            head.insert(0, value);
+            size++;
+            return;
+        }
+
+        Chunk<T> chunk = chunkForInsert(value);
+        int position = chunk.upperBound(value);
+        if (chunk.count == chunkCapacity) {
+            Chunk<T> right = split(chunk);
+            if (position > chunk.count) {
+                position -= chunk.count;
+                chunk = right;
+            }
+        }
+        chunk.insert(position, value);
+        size++;
+    }
+
+    /**
+     * Returns the chunk into which a value must be inserted: the last chunk
+     * whose first value is less than or equal to the value, or the head.
+     *
+     * @param value the value being inserted
+     * @return the target chunk
+     */
+    private Chunk<T> chunkForInsert(T value) {
+        if (tail.values[0].compareTo(value) <= 0) {
+            return tail;
+        }
+        Chunk<T> chunk = head;
+        while (chunk.next != null && chunk.next.values[0].compareTo(value) <= 0) {
+            chunk = chunk.next;
+        }
+        return chunk;
+    }
+
+    /**
+     * Moves the upper half of a full chunk into a new chunk linked right after it.
+     *
+     * @param chunk the chunk to split
+     * @return the new chunk holding the upper half
+     */
+    private Chunk<T> split(Chunk<T> chunk) {
+        Chunk<T> right = new Chunk<>(chunkCapacity);
+        int half = chunk.count / 2;
+        int moved = chunk.count - half;
+        System.arraycopy(chunk.values, half, right.values, 0, moved);
+        Arrays.fill(chunk.values, half, chunk.count, null);
+        right.count = moved;
+        chunk.count = half;
+
+        right.prev = chunk;
+        right.next = chunk.next;
+        if (chunk.next == null) {
+            tail = right;
+        } else {
+            chunk.next.prev = right;
+        }
+        chunk.next = right;
+        return right;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public boolean remove(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Chunk<T> chunk = firstChunkNotBelow(value);
+        if (chunk == null) {
+            return false;
+        }
+        int position = chunk.lowerBound(value);
+        if (chunk.values[position].compareTo(value) != 0) {
+            return false;
+        }
+        removeRange(chunk, position, position + 1);
+        rebalance(chunk);
+        return true;
+    }
+
+    /**
+     * Removes all occurrences of the specified value from the list.
+     *
+     * @param value the value to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int removeAll(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Chunk<T> chunk = firstChunkNotBelow(value);
+        int position = chunk == null ? 0 : chunk.lowerBound(value);
+        Chunk<T> firstPartial = null;
+        Chunk<T> lastPartial = null;
+        int removedCount = 0;
+
+        while (chunk != null && position < chunk.count && chunk.values[position].compareTo(value) == 0) {
+            int end = chunk.upperBound(value);
+            Chunk<T> next = chunk.next;
+            removeRange(chunk, position, end);
+            removedCount += end - position;
+            if (isLinked(chunk)) {
+                if (firstPartial == null) {
+                    firstPartial = chunk;
+                } else {
+                    lastPartial = chunk;
+                }
+            }
+            chunk = next;
+            position = 0;
+        }
+
+        if (lastPartial != null) {
+            rebalance(lastPartial);
+        }
+        if (firstPartial != null && isLinked(firstPartial)) {
+            rebalance(firstPartial);
+        }
+        return removedCount;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to remove (0-based)
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T removeAt(int index) {
+        checkIndex(index);
+        ChunkPosition<T> located = chunkAt(index);
+        Chunk<T> chunk = located.chunk();
+        int position = index - located.start();
+        T value = chunk.values[position];
+        removeRange(chunk, position, position + 1);
+        rebalance(chunk);
+        return value;
+    }
+
+    /**
+     * Internal helper method to remove the values in [from, to) of a chunk.
+     * Unlinks the chunk if it becomes empty.
+     *
+     * @param chunk the chunk to remove from
+     * @param from  the first position to remove
+     * @param to    the position after the last value to remove
+     */
+    private void removeRange(Chunk<T> chunk, int from, int to) {
+        modCount++;
+        chunk.removeRange(from, to);
+        size -= to - from;
+        if (chunk.count == 0) {
+            unlink(chunk);
+        }
+    }
+
+    /**
+     * Merges an underfull chunk with a neighbor if both fit into a single chunk.
+     *
+     * @param chunk the chunk that may have become underfull
+     */
+    private void rebalance(Chunk<T> chunk) {
+        if (!isLinked(chunk) || chunk.count >= chunkCapacity / 4) {
+            return;
+        }
+        if (chunk.next != null && chunk.count + chunk.next.count <= chunkCapacity) {
+            absorb(chunk, chunk.next);
+        } else if (chunk.prev != null && chunk.prev.count + chunk.count <= chunkCapacity) {
+            absorb(chunk.prev, chunk);
+        }
+    }
+
+    /**
+     * Appends all values of a chunk to its predecessor and unlinks it.
+     *
+     * @param left  the chunk receiving the values
+     * @param right the chunk directly after {@code left}
+     */
+    private void absorb(Chunk<T> left, Chunk<T> right) {
+        System.arraycopy(right.values, 0, left.values, left.count, right.count);
+        left.count += right.count;
+        unlink(right);
+    }
+
+    private void unlink(Chunk<T> chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+    }
+
+    private boolean isLinked(Chunk<T> chunk) {
+        return chunk == head || chunk.prev != null;
+    }
+
+    /**
+     * Checks if the list contains the specified value.
+     *
+     * @param value the value to search for
+     * @return true if the value is found, false otherwise
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public boolean contains(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Chunk<T> chunk = firstChunkNotBelow(value);
+        return chunk != null && chunk.values[chunk.lowerBound(value)].compareTo(value) == 0;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * <p>
+     * Chunks are skipped by their counts, starting from the nearest end of the list,
+     * so only the chunk holding the element is indexed into.
+     * </p>
+     *
+     * @param index the index of the element to return (0-based)
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        ChunkPosition<T> located = chunkAt(index);
+        return located.chunk().values[index - located.start()];
+    }
+
+    /**
+     * A chunk and the position of its first value.
+     */
+    private record ChunkPosition<T extends Comparable<T>>(Chunk<T> chunk, int start) {
+    }
+
+    /**
+     * Returns the chunk containing the specified index, traversing from the nearest end.
+     *
+     * @param index the index to locate
+     * @return the chunk containing the index and the position of its first value
+     */
+    private ChunkPosition<T> chunkAt(int index) {
+        if (index < size / 2) {
+            Chunk<T> chunk = head;
+            int start = 0;
+            while (start + chunk.count <= index) {
+                start += chunk.count;
+                chunk = chunk.next;
+            }
+            return new ChunkPosition<>(chunk, start);
+        }
+        Chunk<T> chunk = tail;
+        int start = size - chunk.count;
+        while (start > index) {
+            chunk = chunk.prev;
+            start -= chunk.count;
+        }
+        return new ChunkPosition<>(chunk, start);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1 if not found
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int indexOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int start = 0;
+        Chunk<T> chunk = head;
+        while (chunk != null && chunk.last().compareTo(value) < 0) {
+            start += chunk.count;
+            chunk = chunk.next;
+        }
+        if (chunk == null) {
+            return -1;
+        }
+        int position = chunk.lowerBound(value);
+        return chunk.values[position].compareTo(value) == 0 ? start + position : -1;
+    }
+
+    /**
+     * Returns the index at which the specified value would be inserted by {@link #add(Comparable)}.
+     * <p>
+     * Since duplicates are placed after existing equal elements, this is the number
+     * of elements less than or equal to the value. The list is not modified.
+     * </p>
+     *
+     * @param value the value to rank
+     * @return the insertion index of the value
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int rankOf(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        int rank = 0;
+        Chunk<T> chunk = head;
+        while (chunk != null && chunk.last().compareTo(value) <= 0) {
+            rank += chunk.count;
+            chunk = chunk.next;
+        }
+        return chunk == null ? rank : rank + chunk.upperBound(value);
+    }
+
+    /**
+     * Counts the number of occurrences of the specified value.
+     *
+     * @param value the value to count
+     * @return the number of occurrences
+     * @throws NullPointerException if the value is null
+     */
+    @Override
+    public int count(T value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Chunk<T> chunk = firstChunkNotBelow(value);
+        int position = chunk == null ? 0 : chunk.lowerBound(value);
+        int occurrences = 0;
+
+        while (chunk != null && position < chunk.count && chunk.values[position].compareTo(value) == 0) {
+            int end = chunk.upperBound(value);
+            occurrences += end - position;
+            if (end < chunk.count) {
+                break;
+            }
+            chunk = chunk.next;
+            position = 0;
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first chunk whose last value is not less than the value.
+     * The first occurrence of the value, if any, lies in this chunk.
+     *
+     * @param value the value being searched for
+     * @return the chunk, or null if every value is less than the value
+     */
+    private Chunk<T> firstChunkNotBelow(T value) {
+        Chunk<T> chunk = head;
+        while (chunk != null && chunk.last().compareTo(value) < 0) {
+            chunk = chunk.next;
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns the first (smallest) element in the list.
+     *
+     * @return an Optional containing the first element, or empty if the list is empty
+     */
+    @Override
+    public Optional<T> first() {
+        return head == null ? Optional.empty() : Optional.of(head.values[0]);
+    }
+
+    /**
+     * Returns the last (largest) element in the list.
+     *
+     * @return an Optional containing the last element, or empty if the list is empty
+     */
+    @Override
+    public Optional<T> last() {
+        return tail == null ? Optional.empty() : Optional.of(tail.last());
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the list contents as an ArrayList.
+     * <p>
+     * The returned list is a new instance and modifications to it
+     * do not affect the original UnrolledSortedLinkedList.
+     * </p>
+     *
+     * @return a new ArrayList containing all elements in sorted order
+     */
+    @Override
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(size);
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            result.addAll(Arrays.asList(chunk.values).subList(0, chunk.count));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list.
+     * <p>
+     * The iterator will throw {@link ConcurrentModificationException}
+     * if the list is modified after the iterator is created.
+     * </p>
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Validates that the index is within bounds.
+     *
+     * @param index the index to validate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %d out of bounds for length %d", index, size)
+            );
+        }
+    }
+
+    /**
+     * Returns the elements in sorted order, formatted like {@link java.util.AbstractCollection#toString()}.
+     *
+     * @return the string representation of this list
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                sb.append(chunk.values[i]);
+                if (chunk.next != null || i < chunk.count - 1) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Compares this list with another UnrolledSortedLinkedList element by element.
+     * <p>
+     * Chunk boundaries do not take part in the comparison.
+     * </p>
+     *
+     * @param obj the object to compare with
+     * @return true if both lists hold equal elements in the same order
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UnrolledSortedLinkedList<?> other)) {
+            return false;
+        }
+        if (this.size != other.size) {
+            return false;
+        }
+
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> otherIterator = other.iterator();
+
+        while (thisIterator.hasNext()) {
+            if (!thisIterator.next().equals(otherIterator.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a hash code computed from the elements in sorted order,
+     * consistent with {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + element.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * A node of the unrolled list holding a sorted array of values.
+     * Linked chunks are never empty.
+     */
+    private static final class Chunk<T extends Comparable<T>> {
+
+        private final T[] values;
+        private int count;
+        private Chunk<T> next;
+        private Chunk<T> prev;
+
+        @SuppressWarnings("unchecked")
+        Chunk(int capacity) {
+            this.values = (T[]) new Comparable[capacity];
+        }
+
+        T last() {
+            return values[count - 1];
+        }
+
+        void insert(int position, T value) {
+            System.arraycopy(values, position, values, position + 1, count - position);
+            values[position] = value;
+            count++;
+        }
+
+        void removeRange(int from, int to) {
+            System.arraycopy(values, to, values, from, count - to);
+            int newCount = count - (to - from);
+            Arrays.fill(values, newCount, count, null);
+            count = newCount;
+        }
+
+        /**
+         * Returns the position of the first value not less than the value.
+         */
+        int lowerBound(T value) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid].compareTo(value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the position of the first value greater than the value.
+         */
+        int upperBound(T value) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid].compareTo(value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Fail-fast iterator implementation for UnrolledSortedLinkedList.
+     */
+    private class UnrolledIterator implements Iterator<T> {
+
+        private Chunk<T> chunk;
+        private int offset;
+        private Chunk<T> lastChunk;
+        private int lastOffset;
+        private int expectedModCount;
+
+        UnrolledIterator() {
+            this.chunk = head;
+            this.offset = 0;
+            this.lastChunk = null;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            lastChunk = chunk;
+            lastOffset = offset;
+            T value = chunk.values[offset++];
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastChunk == null) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            if (chunk == lastChunk) {
+                offset--;
+            }
+            removeRange(lastChunk, lastOffset, lastOffset + 1);
+            lastChunk = null;
+            // Sync expectedModCount since this is an iterator-sanctioned modification
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "List was modified during iteration"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ArenaSortedLinkedList.
+ */
+@DisplayName("ArenaSortedLinkedList")
+class ArenaSortedLinkedListTest {
+
+    private ArenaSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = ArenaSortedLinkedList.ofIntegers(0);
+    }
+
+    @Nested
+    @DisplayName("Creation and Factory Methods")
+    class FactoryMethodTests {
+
+        @Test
+        @DisplayName("factories create empty lists")
+        void factories_createEmptyLists() {
+            assertTrue(ArenaSortedLinkedList.ofIntegers().isEmpty());
+            assertTrue(ArenaSortedLinkedList.ofStrings().isEmpty());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+            assertEquals("[]", list.toString());
+        }
+
+        @Test
+        @DisplayName("factories reject negative capacity")
+        void factories_rejectNegativeCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> ArenaSortedLinkedList.ofIntegers(-1));
+            assertThrows(IllegalArgumentException.class, () -> ArenaSortedLinkedList.ofStrings(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sorted List Semantics")
+    class SemanticsTests {
+
+        @Test
+        @DisplayName("add() maintains sorted order while the arena grows")
+        void add_maintainsOrderWhileGrowing() {
+            for (int i = 100; i >= 1; i--) {
+                list.add(i);
+            }
+
+            assertEquals(100, list.size());
+            assertEquals(1, list.first().orElseThrow());
+            assertEquals(100, list.last().orElseThrow());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("add() places duplicates after existing equal elements")
+        void add_placesDuplicatesAfterEqualElements() {
+            ArenaSortedLinkedList<String> strings = ArenaSortedLinkedList.ofStrings();
+            List<String> inserted = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                String value = new String("dup");
+                inserted.add(value);
+                strings.add(value);
+                strings.add("a" + i);
+            }
+
+            List<String> values = strings.toList();
+            for (int i = 0; i < 10; i++) {
+                assertSame(inserted.get(i), values.get(10 + i));
+            }
+        }
+
+        @Test
+        @DisplayName("freed slots are reused by later inserts")
+        void freedSlots_areReused() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            assertEquals(5, list.removeAll(5) + list.removeAll(6) + list.removeAll(7) + list.removeAll(8) + list.removeAll(9));
+            for (int i = 20; i < 25; i++) {
+                list.add(i);
+            }
+
+            assertEquals(List.of(0, 1, 2, 3, 4, 20, 21, 22, 23, 24), list.toList());
+            assertEquals("[0, 1, 2, 3, 4, 20, 21, 22, 23, 24]", list.toString());
+        }
+
+        @Test
+        @DisplayName("operations reject null values")
+        void operations_rejectNull() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(NullPointerException.class, () -> list.remove(null));
+            assertThrows(NullPointerException.class, () -> list.contains(null));
+            assertThrows(NullPointerException.class, () -> list.count(null));
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(29);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(200);
+                switch (random.nextInt(7)) {
+                    case 0, 1 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 2 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 3 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 4 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    case 5 -> {
+                        if (random.nextInt(500) == 0) {
+                            reference.clear();
+                            list.clear();
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator Behavior")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator().remove() frees slots during traversal")
+        void iteratorRemove_freesSlots() {
+            for (int i = 0; i < 40; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 3 != 0) {
+                    iterator.remove();
+                }
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i += 3) {
+                expected.add(i);
+            }
+            assertEquals(expected, list.toList());
+            assertEquals(expected, list.stream().toList());
+            assertEquals(expected.size(), list.size());
+        }
+
+        @Test
+        @DisplayName("iterator() is fail-fast and validates state")
+        void iterator_isFailFast() {
+            list.add(1);
+            list.add(2);
+
+            Iterator<Integer> iterator = list.iterator();
+            assertThrows(IllegalStateException.class, iterator::remove);
+            iterator.next();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("iterator() throws NoSuchElementException when exhausted")
+        void iterator_throwsWhenExhausted() {
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+}
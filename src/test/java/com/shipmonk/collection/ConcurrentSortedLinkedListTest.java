@@ -0,0 +1,233 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the lock-free ConcurrentSortedLinkedList.
+ */
+@DisplayName("ConcurrentSortedLinkedList")
+class ConcurrentSortedLinkedListTest {
+
+    private static final int THREADS = 8;
+
+    private ConcurrentSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = ConcurrentSortedLinkedList.ofIntegers();
+    }
+
+    @Nested
+    @DisplayName("Single-Threaded Semantics")
+    class SingleThreadedTests {
+
+        @Test
+        @DisplayName("factories create empty lists")
+        void factories_createEmptyLists() {
+            assertTrue(list.isEmpty());
+            assertTrue(ConcurrentSortedLinkedList.ofStrings().isEmpty());
+            assertEquals(0, list.size());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+        }
+
+        @Test
+        @DisplayName("add() maintains sorted order and allows duplicates")
+        void add_maintainsSortedOrder() {
+            list.add(5);
+            list.add(1);
+            list.add(5);
+            list.add(3);
+
+            assertEquals(List.of(1, 3, 5, 5), list.toList());
+            assertEquals(4, list.size());
+            assertEquals(1, list.first().orElseThrow());
+            assertEquals(5, list.last().orElseThrow());
+            assertEquals("[1, 3, 5, 5]", list.toString());
+        }
+
+        @Test
+        @DisplayName("add() places duplicates after existing equal elements")
+        void add_placesDuplicatesAfterEqualElements() {
+            ConcurrentSortedLinkedList<String> strings = ConcurrentSortedLinkedList.ofStrings();
+            String first = new String("v");
+            String second = new String("v");
+            strings.add(first);
+            strings.add(second);
+
+            List<String> values = strings.toList();
+            assertSame(first, values.get(0));
+            assertSame(second, values.get(1));
+        }
+
+        @Test
+        @DisplayName("remove(), removeAll(), contains() and count() work")
+        void removeAndQueries_work() {
+            list.add(2);
+            list.add(2);
+            list.add(2);
+            list.add(4);
+
+            assertTrue(list.contains(2));
+            assertEquals(3, list.count(2));
+            assertTrue(list.remove(2));
+            assertFalse(list.remove(3));
+            assertEquals(2, list.removeAll(2));
+            assertFalse(list.contains(2));
+            assertEquals(List.of(4), list.toList());
+            assertEquals(1, list.size());
+        }
+
+        @Test
+        @DisplayName("pollFirst() and clear() remove elements from the head")
+        void pollFirstAndClear_work() {
+            list.add(3);
+            list.add(1);
+            list.add(2);
+
+            assertEquals(1, list.pollFirst().orElseThrow());
+            list.clear();
+
+            assertTrue(list.isEmpty());
+            assertEquals(0, list.size());
+            assertTrue(list.pollFirst().isEmpty());
+        }
+
+        @Test
+        @DisplayName("operations reject null values")
+        void operations_rejectNull() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(NullPointerException.class, () -> list.remove(null));
+            assertThrows(NullPointerException.class, () -> list.contains(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator Behavior")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator() tolerates concurrent modification")
+        void iterator_toleratesModification() {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+            list.add(4);
+
+            Iterator<Integer> iterator = list.iterator();
+            assertEquals(1, iterator.next());
+            list.remove(3);
+            list.add(5);
+
+            List<Integer> rest = new ArrayList<>();
+            iterator.forEachRemaining(rest::add);
+            assertEquals(List.of(2, 4, 5), rest);
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("iterator().remove() removes the returned element")
+        void iteratorRemove_removesReturnedElement() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            assertThrows(IllegalStateException.class, iterator::remove);
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertEquals(List.of(1, 3, 5, 7, 9), list.toList());
+            assertEquals(5, list.size());
+            assertEquals(25, list.stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Threaded Behavior")
+    class MultiThreadedTests {
+
+        @Test
+        @DisplayName("concurrent add() from many threads loses no elements")
+        void concurrentAdd_losesNoElements() throws Exception {
+            int perThread = 2_000;
+            runConcurrently(thread -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.add(i * THREADS + thread);
+                }
+            });
+
+            assertEquals(THREADS * perThread, list.size());
+            List<Integer> values = list.toList();
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(i, values.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("concurrent add() and remove() keep the list consistent")
+        void concurrentAddAndRemove_keepListConsistent() throws Exception {
+            int perThread = 2_000;
+            runConcurrently(thread -> {
+                for (int i = 0; i < perThread; i++) {
+                    int value = i % 100;
+                    list.add(value);
+                    assertTrue(list.remove(value));
+                }
+                list.add(thread);
+            });
+
+            assertEquals(THREADS, list.size());
+            List<Integer> values = list.toList();
+            assertEquals(THREADS, values.size());
+            for (int i = 0; i < THREADS; i++) {
+                assertEquals(i, values.get(i));
+            }
+        }
+
+        private void runConcurrently(ThreadTask task) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        task.run(thread);
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
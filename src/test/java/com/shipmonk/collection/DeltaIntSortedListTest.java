@@ -0,0 +1,184 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the compressed DeltaIntSortedList.
+ */
+@DisplayName("DeltaIntSortedList")
+class DeltaIntSortedListTest {
+
+    private DeltaIntSortedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = DeltaIntSortedList.create(DeltaIntSortedList.MIN_BLOCK_CAPACITY);
+    }
+
+    @Nested
+    @DisplayName("Sorted List Semantics")
+    class SemanticsTests {
+
+        @Test
+        @DisplayName("factories create empty lists and reject small blocks")
+        void create_createsEmptyList() {
+            assertTrue(DeltaIntSortedList.create().isEmpty());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+            assertEquals("[]", list.toString());
+            assertFalse(list.iterator().hasNext());
+            assertThrows(IllegalArgumentException.class, () -> DeltaIntSortedList.create(3));
+        }
+
+        @Test
+        @DisplayName("extreme values and large gaps are encoded exactly")
+        void extremeValues_roundTrip() {
+            int[] values = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+            for (int value : values) {
+                list.add(value);
+            }
+            Arrays.sort(values);
+
+            assertArrayEquals(values, list.toArray());
+            assertArrayEquals(values, list.stream().toArray());
+            assertEquals(Integer.MIN_VALUE, list.first().getAsInt());
+            assertEquals(Integer.MAX_VALUE, list.last().getAsInt());
+            assertEquals(2, list.count(Integer.MAX_VALUE));
+            assertTrue(list.contains(-1));
+            assertFalse(list.contains(2));
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as IntSortedList")
+        void randomOperations_matchIntSortedList() {
+            IntSortedList reference = IntSortedList.create();
+            Random random = new Random(61);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(300) - 150;
+                switch (random.nextInt(7)) {
+                    case 0, 1, 2 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 3 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 4 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 5 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.get(index), list.get(index));
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+                assertEquals(reference.size(), list.size());
+            }
+
+            assertArrayEquals(reference.toArray(), list.toArray());
+            assertEquals(reference.hashCode(), list.hashCode());
+            assertEquals(reference.first(), list.first());
+            assertEquals(reference.last(), list.last());
+        }
+
+        @Test
+        @DisplayName("concurrent readers do not interfere with each other")
+        void concurrentReads_areConsistent() {
+            for (int i = 0; i < 2_000; i++) {
+                list.add(3 * i);
+            }
+
+            assertTrue(IntStream.range(0, 200_000).parallel().allMatch(i -> {
+                int index = i % 2_000;
+                return list.get(index) == 3 * index && list.indexOf(3 * index) == index
+                        && list.rankOf(3 * index) == index + 1 && list.count(3 * index) == 1
+                        && list.contains(3 * index) && !list.contains(3 * index + 1);
+            }));
+        }
+
+        @Test
+        @DisplayName("duplicates spanning several blocks are counted and removed")
+        void duplicates_spanBlocks() {
+            for (int i = 0; i < 30; i++) {
+                list.add(5);
+            }
+            list.add(1);
+            list.add(9);
+
+            assertEquals(30, list.count(5));
+            assertEquals(1, list.indexOf(5));
+            assertEquals(31, list.rankOf(5));
+            assertEquals(30, list.removeAll(5));
+            assertEquals("[1, 9]", list.toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranges and Iteration")
+    class RangeTests {
+
+        @Test
+        @DisplayName("range() returns the values in [from, to)")
+        void range_returnsHalfOpenInterval() {
+            for (int i = 0; i < 1_000; i += 3) {
+                list.add(1_000_000 + i);
+            }
+
+            assertArrayEquals(new int[]{1_000_009, 1_000_012}, list.range(1_000_008, 1_000_013).toArray());
+            assertEquals(334, list.range(Integer.MIN_VALUE, Integer.MAX_VALUE).count());
+            assertEquals(0, list.range(2_000_000, 3_000_000).count());
+            assertEquals(0, list.range(5, 5).count());
+            assertThrows(IllegalArgumentException.class, () -> list.range(2, 1));
+        }
+
+        @Test
+        @DisplayName("iterator().remove() removes elements across blocks")
+        void iteratorRemove_removesElements() {
+            for (int i = 0; i < 50; i++) {
+                list.add(i);
+            }
+
+            PrimitiveIterator.OfInt iterator = list.iterator();
+            int expected = 0;
+            while (iterator.hasNext()) {
+                int value = iterator.nextInt();
+                assertEquals(expected++, value);
+                if (value % 3 != 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertArrayEquals(IntStream.range(0, 50).filter(i -> i % 3 == 0).toArray(), list.toArray());
+            assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        }
+
+        @Test
+        @DisplayName("iterator is fail-fast")
+        void iterator_isFailFast() {
+            list.add(1);
+            list.add(2);
+            PrimitiveIterator.OfInt iterator = list.iterator();
+            iterator.nextInt();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for FrontCodedSortedLinkedList.
+ */
+@DisplayName("FrontCodedSortedLinkedList")
+class FrontCodedSortedLinkedListTest {
+
+    private FrontCodedSortedLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = FrontCodedSortedLinkedList.ofStrings(FrontCodedSortedLinkedList.MIN_BLOCK_CAPACITY);
+    }
+
+    @Nested
+    @DisplayName("Creation and Factory Methods")
+    class FactoryMethodTests {
+
+        @Test
+        @DisplayName("factories create empty lists and reject small blocks")
+        void factories_createEmptyLists() {
+            assertTrue(FrontCodedSortedLinkedList.ofStrings().isEmpty());
+            assertTrue(list.first().isEmpty());
+            assertEquals("[]", list.toString());
+            assertThrows(IllegalArgumentException.class, () -> FrontCodedSortedLinkedList.ofStrings(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sorted List Semantics")
+    class SemanticsTests {
+
+        @Test
+        @DisplayName("strings with shared prefixes round-trip exactly")
+        void sharedPrefixes_roundTrip() {
+            List<String> expected = new ArrayList<>(List.of("EU-PRG-A01-001", "EU-PRG-A01-002", "EU-PRG-A01",
+                    "EU-PRG-B17-999", "", "Über", "Überall", "😀", "😀x", "\uD83D", "a\uDE00", "EU"));
+            for (String value : expected) {
+                list.add(value);
+            }
+            expected.sort(null);
+
+            assertEquals(expected, list.toList());
+            assertEquals(expected, list.stream().toList());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), list.get(i));
+                assertTrue(list.contains(expected.get(i)));
+            }
+            assertFalse(list.contains("EU-PRG-A01-00"));
+            assertEquals(expected.get(0), list.first().orElseThrow());
+            assertEquals(expected.get(expected.size() - 1), list.last().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<String> reference = SortedLinkedList.ofStrings();
+            Random random = new Random(59);
+
+            for (int i = 0; i < 20_000; i++) {
+                String value = "EU-PRG-A" + random.nextInt(30) + "-" + random.nextInt(10);
+                switch (random.nextInt(7)) {
+                    case 0, 1, 2 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 3 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 4 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 5 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.get(index), list.get(index));
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+                assertEquals(reference.size(), list.size());
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+        }
+
+        @Test
+        @DisplayName("concurrent readers do not interfere with each other")
+        void concurrentReads_areConsistent() {
+            for (int i = 0; i < 2_000; i++) {
+                list.add(String.format("EU-PRG-A%05d", 2 * i));
+            }
+
+            assertTrue(IntStream.range(0, 100_000).parallel().allMatch(i -> {
+                int index = i % 2_000;
+                String value = String.format("EU-PRG-A%05d", 2 * index);
+                return list.get(index).equals(value) && list.indexOf(value) == index
+                        && list.rankOf(value) == index + 1 && list.count(value) == 1
+                        && list.contains(value) && !list.contains(String.format("EU-PRG-A%05d", 2 * index + 1));
+            }));
+        }
+
+        @Test
+        @DisplayName("duplicates spanning several blocks are counted and removed")
+        void duplicates_spanBlocks() {
+            for (int i = 0; i < 20; i++) {
+                list.add("b");
+            }
+            list.add("a");
+            list.add("c");
+
+            assertEquals(20, list.count("b"));
+            assertEquals(1, list.indexOf("b"));
+            assertEquals(21, list.rankOf("b"));
+            assertEquals(20, list.removeAll("b"));
+            assertEquals(List.of("a", "c"), list.toList());
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator().remove() removes elements across blocks")
+        void iteratorRemove_removesElements() {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String value = String.format("SKU-%03d", i);
+                list.add(value);
+                if (i % 3 == 0) {
+                    expected.add(value);
+                }
+            }
+
+            Iterator<String> iterator = list.iterator();
+            int index = 0;
+            while (iterator.hasNext()) {
+                assertEquals(String.format("SKU-%03d", index), iterator.next());
+                if (index++ % 3 != 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertEquals(expected, list.toList());
+            assertEquals(expected.size(), list.size());
+        }
+
+        @Test
+        @DisplayName("iterator is fail-fast and equality compares contents")
+        void iterator_isFailFast() {
+            FrontCodedSortedLinkedList other = FrontCodedSortedLinkedList.ofStrings();
+            list.addAll(List.of("x", "y"));
+            other.addAll(List.of("y", "x"));
+            assertEquals(other, list);
+
+            Iterator<String> iterator = list.iterator();
+            iterator.next();
+            list.add("z");
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertNotEquals(other, list);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the primitive IntSortedList.
+ */
+@DisplayName("IntSortedList")
+class IntSortedListTest {
+
+    private IntSortedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = IntSortedList.create();
+    }
+
+    @Nested
+    @DisplayName("Creation and Factory Methods")
+    class FactoryMethodTests {
+
+        @Test
+        @DisplayName("create() creates an empty list")
+        void create_createsEmptyList() {
+            assertTrue(list.isEmpty());
+            assertEquals(0, list.size());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+        }
+
+        @Test
+        @DisplayName("create(int) rejects negative capacity")
+        void create_rejectsNegativeCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> IntSortedList.create(-1));
+        }
+
+        @Test
+        @DisplayName("create(0) grows on first add")
+        void create_zeroCapacityGrows() {
+            IntSortedList empty = IntSortedList.create(0);
+            empty.add(3);
+
+            assertEquals(3, empty.get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Add and Remove Operations")
+    class AddRemoveTests {
+
+        @Test
+        @DisplayName("add() maintains sorted order")
+        void add_maintainsSortedOrder() {
+            for (int i = 1000; i >= 1; i--) {
+                list.add(i);
+            }
+
+            assertEquals(1000, list.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("add() handles duplicates and boundary values")
+        void add_handlesDuplicatesAndBoundaries() {
+            list.add(Integer.MAX_VALUE);
+            list.add(0);
+            list.add(Integer.MIN_VALUE);
+            list.add(0);
+
+            assertArrayEquals(new int[]{Integer.MIN_VALUE, 0, 0, Integer.MAX_VALUE}, list.toArray());
+        }
+
+        @Test
+        @DisplayName("remove() removes a single occurrence")
+        void remove_removesSingleOccurrence() {
+            list.add(5);
+            list.add(5);
+            list.add(7);
+
+            assertTrue(list.remove(5));
+            assertFalse(list.remove(6));
+            assertArrayEquals(new int[]{5, 7}, list.toArray());
+        }
+
+        @Test
+        @DisplayName("removeAll() removes every occurrence")
+        void removeAll_removesEveryOccurrence() {
+            list.add(1);
+            list.add(5);
+            list.add(5);
+            list.add(5);
+            list.add(9);
+
+            assertEquals(3, list.removeAll(5));
+            assertEquals(0, list.removeAll(5));
+            assertArrayEquals(new int[]{1, 9}, list.toArray());
+        }
+
+        @Test
+        @DisplayName("removeAt() removes by index and validates bounds")
+        void removeAt_removesByIndex() {
+            list.add(10);
+            list.add(20);
+            list.add(30);
+
+            assertEquals(20, list.removeAt(1));
+            assertArrayEquals(new int[]{10, 30}, list.toArray());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Operations")
+    class QueryTests {
+
+        @Test
+        @DisplayName("contains(), count(), indexOf() and rankOf() use sorted positions")
+        void queries_returnExpectedValues() {
+            list.add(10);
+            list.add(20);
+            list.add(20);
+            list.add(30);
+
+            assertTrue(list.contains(20));
+            assertFalse(list.contains(25));
+            assertEquals(2, list.count(20));
+            assertEquals(0, list.count(15));
+            assertEquals(1, list.indexOf(20));
+            assertEquals(-1, list.indexOf(25));
+            assertEquals(3, list.rankOf(20));
+            assertEquals(0, list.rankOf(5));
+            assertEquals(10, list.first().orElseThrow());
+            assertEquals(30, list.last().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("clear() empties the list")
+        void clear_emptiesList() {
+            list.add(1);
+            list.add(2);
+
+            list.clear();
+
+            assertTrue(list.isEmpty());
+            assertEquals("[]", list.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Iteration and Streams")
+    class IterationTests {
+
+        @Test
+        @DisplayName("iterator() yields primitive values in order")
+        void iterator_yieldsValuesInOrder() {
+            list.add(3);
+            list.add(1);
+            list.add(2);
+
+            PrimitiveIterator.OfInt iterator = list.iterator();
+
+            assertEquals(1, iterator.nextInt());
+            assertEquals(2, iterator.nextInt());
+            assertEquals(3, iterator.nextInt());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::nextInt);
+        }
+
+        @Test
+        @DisplayName("iterator().remove() removes current element")
+        void iteratorRemove_removesCurrentElement() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            PrimitiveIterator.OfInt iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.nextInt() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertArrayEquals(new int[]{1, 3, 5, 7, 9}, list.toArray());
+            assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        }
+
+        @Test
+        @DisplayName("iterator() detects concurrent modification")
+        void iterator_detectsConcurrentModification() {
+            list.add(1);
+            list.add(2);
+
+            PrimitiveIterator.OfInt iterator = list.iterator();
+            iterator.nextInt();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+        }
+
+        @Test
+        @DisplayName("stream() produces an IntStream over the elements")
+        void stream_producesIntStream() {
+            list.add(4);
+            list.add(2);
+            list.add(6);
+
+            assertEquals(12, list.stream().sum());
+            assertArrayEquals(new int[]{4, 6}, list.stream().filter(v -> v > 2).toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Equals and HashCode")
+    class EqualsHashCodeTests {
+
+        @Test
+        @DisplayName("lists with same elements are equal")
+        void sameElements_areEqual() {
+            IntSortedList other = IntSortedList.create(1);
+            list.add(2);
+            list.add(1);
+            other.add(1);
+            other.add(2);
+
+            assertEquals(list, other);
+            assertEquals(list.hashCode(), other.hashCode());
+            assertEquals("[1, 2]", list.toString());
+        }
+
+        @Test
+        @DisplayName("hashCode() matches SortedLinkedList of the same integers")
+        void hashCode_matchesBoxedList() {
+            SortedLinkedList<Integer> boxed = SortedLinkedList.ofIntegers();
+            for (int value : new int[]{7, -3, 42}) {
+                list.add(value);
+                boxed.add(value);
+            }
+
+            assertEquals(boxed.hashCode(), list.hashCode());
+        }
+    }
+}
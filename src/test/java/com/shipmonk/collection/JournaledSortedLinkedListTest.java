@@ -0,0 +1,486 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for JournaledSortedLinkedList.
+ */
+@DisplayName("JournaledSortedLinkedList")
+class JournaledSortedLinkedListTest {
+
+    @TempDir
+    Path directory;
+
+    private Path snapshot() {
+        return directory.resolve("list.snapshot");
+    }
+
+    private Path journal() {
+        return directory.resolve("list.journal");
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("random operations are recovered after reopening")
+        void randomOperations_areRecovered() throws IOException {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(47);
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(), journal(),
+                    SearchMode.SKIP_LIST, 16)) {
+                for (int i = 0; i < 5_000; i++) {
+                    int value = random.nextInt(100);
+                    switch (random.nextInt(8)) {
+                        case 0 -> assertEquals(reference.remove(value), list.remove(value));
+                        case 1 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                        case 2 -> {
+                            if (!reference.isEmpty()) {
+                                int index = random.nextInt(reference.size());
+                                assertEquals(reference.removeAt(index), list.removeAt(index));
+                            }
+                        }
+                        case 3 -> {
+                            if (i == 2_500) {
+                                list.clear();
+                                reference.clear();
+                            }
+                        }
+                        default -> {
+                            list.add(value);
+                            reference.add(value);
+                        }
+                    }
+                }
+            }
+
+            try (JournaledSortedLinkedList<Integer> reopened = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(reference.toList(), reopened.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("a torn batch at the end of the journal is discarded")
+        void tornBatch_isDiscarded() throws IOException {
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(), journal(),
+                    SearchMode.LINEAR, 2)) {
+                list.addAll(List.of("EU-PRG-A01", "Über"));
+                list.addAll(List.of("b", "c"));
+            }
+            long intact = Files.size(journal());
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(),
+                    journal())) {
+                list.add("d");
+            }
+            byte[] bytes = Files.readAllBytes(journal());
+            Files.write(journal(), Arrays.copyOf(bytes, bytes.length - 1));
+
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(),
+                    journal())) {
+                assertEquals(List.of("EU-PRG-A01", "b", "c", "Über"), list.toList());
+                assertEquals(intact, Files.size(journal()));
+                list.add("e");
+            }
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(),
+                    journal())) {
+                assertEquals(List.of("EU-PRG-A01", "b", "c", "e", "Über"), list.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("strings with unpaired surrogates are replayed exactly")
+        void loneSurrogates_areReplayed() throws IOException {
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(), journal())) {
+                list.add("?");
+                list.add("\uD800");
+                list.add("a\uDC00");
+                assertEquals(1, list.removeAll("\uD800"));
+                assertEquals(List.of("?", "a\uDC00"), list.toList());
+            }
+
+            try (JournaledSortedLinkedList<String> list = JournaledSortedLinkedList.openStrings(snapshot(),
+                    journal())) {
+                assertEquals(List.of("?", "a\uDC00"), list.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("unsynced mutations are lost, synced ones survive")
+        void unsyncedMutations_areLost() throws IOException {
+            JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(), journal(),
+                    SearchMode.LINEAR, 3);
+            list.add(1);
+            list.add(2);
+            list.add(3);
+            list.add(4);
+            // Simulates a crash: the fourth mutation is still buffered
+            try (JournaledSortedLinkedList<Integer> recovered = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2, 3), recovered.toList());
+            }
+            list.sync();
+            list.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Failed Syncs")
+    class FailedSyncTests {
+
+        private FailingChannel channel;
+
+        private JournaledSortedLinkedList<Integer> openFailing() throws IOException {
+            return openFailing(100);
+        }
+
+        private JournaledSortedLinkedList<Integer> openFailing(int syncEvery) throws IOException {
+            return JournaledSortedLinkedList.openIntegers(snapshot(), journal(), SearchMode.LINEAR, syncEvery,
+                    (Path path, OpenOption... options) -> channel = new FailingChannel(FileChannel.open(path, options)));
+        }
+
+        @Test
+        @DisplayName("a torn write is rolled back and retried without losing later batches")
+        void tornWrite_isRetried() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = openFailing()) {
+                list.addAll(List.of(1, 2));
+                list.sync();
+                long committed = Files.size(journal());
+
+                list.add(3);
+                channel.tornWriteBytes = 5;
+                assertThrows(IOException.class, list::sync);
+                assertEquals(committed, Files.size(journal()));
+
+                list.add(4);
+                list.sync();
+                list.add(5);
+            }
+
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2, 3, 4, 5), list.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("a batch whose fsync failed is written only once")
+        void failedForce_isNotReplayedTwice() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = openFailing()) {
+                list.add(1);
+                list.sync();
+                list.add(2);
+                list.remove(1);
+                channel.failForce = true;
+                assertThrows(IOException.class, list::sync);
+                list.sync();
+                list.add(1);
+            }
+
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2), list.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("a mutation whose group commit fails is not applied")
+        void failedGroupCommit_leavesListUnchanged() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = openFailing(2)) {
+                list.add(1);
+                channel.failForce = true;
+                assertThrows(UncheckedIOException.class, () -> list.add(2));
+                assertEquals(List.of(1), list.toList());
+
+                list.add(3);
+                list.add(4);
+                channel.failForce = true;
+                assertThrows(UncheckedIOException.class, () -> list.removeAt(0));
+                assertEquals(List.of(1, 3, 4), list.toList());
+                channel.failForce = true;
+                assertThrows(UncheckedIOException.class, list::clear);
+                assertEquals(List.of(1, 3, 4), list.toList());
+                assertEquals(1, list.removeAll(3));
+            }
+
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 4), list.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("a failed rollback marks the list failed")
+        void failedRollback_failsList() throws IOException {
+            JournaledSortedLinkedList<Integer> list = openFailing();
+            list.add(1);
+            channel.failForce = true;
+            channel.failTruncate = true;
+
+            assertThrows(IOException.class, list::sync);
+            assertThrows(IllegalStateException.class, () -> list.add(2));
+            assertThrows(IllegalStateException.class, list::sync);
+            assertThrows(IOException.class, list::close);
+            assertEquals(List.of(1), list.toList());
+        }
+
+        @Test
+        @DisplayName("a failed journal swap after a checkpoint marks the list failed")
+        void failedJournalSwap_failsList() throws IOException {
+            boolean[] failSwap = {false};
+            JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(), journal(),
+                    SearchMode.LINEAR, 100, (Path path, OpenOption... options) -> {
+                        if (failSwap[0] && path.getFileName().toString().endsWith(".tmp")) {
+                            throw new IOException("Simulated journal swap failure");
+                        }
+                        return FileChannel.open(path, options);
+                    });
+            list.addAll(List.of(1, 2));
+            failSwap[0] = true;
+
+            assertThrows(IOException.class, list::checkpoint);
+            assertTrue(Files.exists(snapshot()));
+            assertThrows(IllegalStateException.class, () -> list.add(3));
+            list.close();
+
+            try (JournaledSortedLinkedList<Integer> recovered = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2), recovered.toList());
+                recovered.add(3);
+            }
+            try (JournaledSortedLinkedList<Integer> recovered = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2, 3), recovered.toList());
+            }
+        }
+    }
+
+    /**
+     * File channel that fails selected operations once, delegating everything else.
+     */
+    private static final class FailingChannel extends FileChannel {
+
+        private final FileChannel delegate;
+
+        /**
+         * Number of bytes the next write stores before failing, or -1.
+         */
+        int tornWriteBytes = -1;
+        boolean failForce;
+        boolean failTruncate;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (tornWriteBytes >= 0) {
+                ByteBuffer part = src.slice(src.position(), Math.min(tornWriteBytes, src.remaining()));
+                delegate.write(part);
+                tornWriteBytes = -1;
+                throw new IOException("Simulated torn write");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failForce) {
+                failForce = false;
+                throw new IOException("Simulated fsync failure");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                failTruncate = false;
+                throw new IOException("Simulated truncate failure");
+            }
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoints")
+    class CheckpointTests {
+
+        @Test
+        @DisplayName("checkpoint() writes a snapshot and empties the journal")
+        void checkpoint_resetsJournal() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                for (int i = 0; i < 100; i++) {
+                    list.add(i);
+                }
+                long before = Files.size(journal());
+                list.checkpoint();
+                assertTrue(Files.size(journal()) < before);
+                list.removeAt(0);
+            }
+
+            assertEquals(100, SortedLinkedList.loadIntegerSnapshot(snapshot()).size());
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(99, list.size());
+                assertEquals(1, list.first().orElseThrow());
+            }
+        }
+
+        @Test
+        @DisplayName("a journal written before the current snapshot is not replayed")
+        void outdatedJournal_isIgnored() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                list.add(1);
+                list.add(2);
+            }
+            // Simulates a crash between writing the snapshot and resetting the journal
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                SortedLinkedList<Integer> copy = SortedLinkedList.ofIntegers();
+                copy.addAll(list.toList());
+                copy.writeSnapshot(snapshot());
+            }
+
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                assertEquals(List.of(1, 2), list.toList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("operations fail after close() and the iterator is read-only")
+        void operations_failAfterClose() throws IOException {
+            JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(), journal());
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+            assertEquals(1, iterator.next());
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            list.close();
+            list.close();
+
+            assertThrows(IllegalStateException.class, () -> list.add(2));
+            assertThrows(IllegalStateException.class, list::sync);
+            assertEquals(List.of(1), list.toList());
+        }
+
+        @Test
+        @DisplayName("journals of another type and bad arguments are rejected")
+        void invalidArguments_areRejected() throws IOException {
+            try (JournaledSortedLinkedList<Integer> list = JournaledSortedLinkedList.openIntegers(snapshot(),
+                    journal())) {
+                list.add(1);
+            }
+            Path garbage = directory.resolve("garbage.journal");
+            Files.write(garbage, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+            assertThrows(IOException.class, () -> JournaledSortedLinkedList.openStrings(snapshot(), journal()));
+            assertThrows(IOException.class, () -> JournaledSortedLinkedList.openIntegers(snapshot(), garbage));
+            assertThrows(IllegalArgumentException.class,
+                    () -> JournaledSortedLinkedList.openIntegers(snapshot(), journal(), SearchMode.LINEAR, 0));
+            assertThrows(NullPointerException.class, () -> JournaledSortedLinkedList.openIntegers(null, journal()));
+        }
+    }
+}
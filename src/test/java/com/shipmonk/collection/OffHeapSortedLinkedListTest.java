@@ -0,0 +1,238 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OffHeapSortedLinkedList.
+ */
+@DisplayName("OffHeapSortedLinkedList")
+class OffHeapSortedLinkedListTest {
+
+    private OffHeapSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = OffHeapSortedLinkedList.ofIntegers(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        list.close();
+    }
+
+    @Nested
+    @DisplayName("Integer Lists")
+    class IntegerTests {
+
+        @Test
+        @DisplayName("add() maintains sorted order while the buffer grows")
+        void add_maintainsOrderWhileGrowing() {
+            for (int i = 100; i >= 1; i--) {
+                list.add(i);
+            }
+            list.add(Integer.MIN_VALUE);
+            list.add(Integer.MAX_VALUE);
+
+            assertEquals(102, list.size());
+            assertEquals(Integer.MIN_VALUE, list.first().orElseThrow());
+            assertEquals(Integer.MAX_VALUE, list.last().orElseThrow());
+            for (int i = 1; i <= 100; i++) {
+                assertEquals(i, list.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(37);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(200) - 100;
+                switch (random.nextInt(6)) {
+                    case 0, 1 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 2 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 3 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 4 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("String Lists")
+    class StringTests {
+
+        @Test
+        @DisplayName("strings round-trip through UTF-8 storage")
+        void strings_roundTrip() {
+            try (OffHeapSortedLinkedList<String> strings = OffHeapSortedLinkedList.ofStrings(1)) {
+                strings.add("zebra");
+                strings.add("");
+                strings.add("Über");
+                strings.add("apple");
+                strings.add("😀");
+                strings.add("�");
+
+                List<String> expected = new ArrayList<>(List.of("zebra", "", "Über", "apple", "😀", "�"));
+                expected.sort(null);
+                assertEquals(expected, strings.toList());
+                assertTrue(strings.contains("Über"));
+                assertEquals(expected.toString(), strings.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("in-place comparisons order surrogates like String.compareTo")
+        void surrogates_matchStringOrder() {
+            // U+FF61 sorts after the surrogates of U+1F600 in UTF-16, but before them in UTF-8 byte order
+            String[] alphabet = {"a", "\u00FC", "\uD7FF", "\uD83D", "\uDE00", "\uD83D\uDE00",
+                    "\uD800\uDC00", "\uE000", "\uFF61", "\uFFFF", "\uDBFF\uDFFF"};
+            try (OffHeapSortedLinkedList<String> strings = OffHeapSortedLinkedList.ofStrings()) {
+                SortedLinkedList<String> reference = SortedLinkedList.ofStrings();
+                Random random = new Random(43);
+                for (int i = 0; i < 5_000; i++) {
+                    StringBuilder builder = new StringBuilder();
+                    for (int k = random.nextInt(4); k > 0; k--) {
+                        builder.append(alphabet[random.nextInt(alphabet.length)]);
+                    }
+                    String value = builder.toString();
+                    switch (random.nextInt(4)) {
+                        case 0, 1 -> {
+                            strings.add(value);
+                            reference.add(value);
+                        }
+                        case 2 -> assertEquals(reference.remove(value), strings.remove(value));
+                        default -> {
+                            assertEquals(reference.indexOf(value), strings.indexOf(value));
+                            assertEquals(reference.rankOf(value), strings.rankOf(value));
+                            assertEquals(reference.count(value), strings.count(value));
+                        }
+                    }
+                }
+
+                assertEquals(reference.toList(), strings.toList());
+                assertTrue(strings.contains("\uD83D"));
+                assertFalse(strings.contains("\uD83D\uDE00\uD83D\uDE00\uD83D\uDE00\uD83D\uDE00"));
+            }
+        }
+
+        @Test
+        @DisplayName("removed strings are compacted away")
+        void removedStrings_areCompacted() {
+            try (OffHeapSortedLinkedList<String> strings = OffHeapSortedLinkedList.ofStrings()) {
+                SortedLinkedList<String> reference = SortedLinkedList.ofStrings();
+                Random random = new Random(41);
+                for (int i = 0; i < 20_000; i++) {
+                    String value = "EU-PRG-A" + random.nextInt(500);
+                    if (random.nextInt(3) == 0) {
+                        assertEquals(reference.removeAll(value), strings.removeAll(value));
+                    } else {
+                        strings.add(value);
+                        reference.add(value);
+                    }
+                }
+
+                assertEquals(reference.toList(), strings.toList());
+                assertEquals(reference.size(), strings.size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle and Iteration")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("operations fail after close()")
+        void operations_failAfterClose() {
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+            list.close();
+            list.close();
+
+            assertThrows(IllegalStateException.class, () -> list.add(2));
+            assertThrows(IllegalStateException.class, () -> list.contains(1));
+            assertThrows(IllegalStateException.class, list::size);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertEquals("[closed]", list.toString());
+        }
+
+        @Test
+        @DisplayName("clear() makes all space available again")
+        void clear_resetsList() {
+            for (int i = 0; i < 50; i++) {
+                list.add(i);
+            }
+            list.clear();
+            list.add(7);
+
+            assertEquals(List.of(7), list.toList());
+        }
+
+        @Test
+        @DisplayName("iterator().remove() frees slots during traversal")
+        void iteratorRemove_freesSlots() {
+            for (int i = 0; i < 40; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 3 != 0) {
+                    iterator.remove();
+                }
+            }
+            for (int i = 100; i < 110; i++) {
+                list.add(i);
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i += 3) {
+                expected.add(i);
+            }
+            for (int i = 100; i < 110; i++) {
+                expected.add(i);
+            }
+            assertEquals(expected, list.stream().toList());
+        }
+
+        @Test
+        @DisplayName("operations reject null values and bad capacities")
+        void operations_rejectInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(NullPointerException.class, () -> list.remove(null));
+            assertThrows(IllegalArgumentException.class, () -> OffHeapSortedLinkedList.ofIntegers(0));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the container-based RoaringSortedList.
+ */
+@DisplayName("RoaringSortedList")
+class RoaringSortedListTest {
+
+    private RoaringSortedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = RoaringSortedList.ofIntegers();
+    }
+
+    @Nested
+    @DisplayName("Sorted List Semantics")
+    class SemanticsTests {
+
+        @Test
+        @DisplayName("factory creates an empty list")
+        void ofIntegers_createsEmptyList() {
+            assertTrue(list.isEmpty());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+            assertEquals("[]", list.toString());
+            assertFalse(list.iterator().hasNext());
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+
+        @Test
+        @DisplayName("values in different containers keep signed order")
+        void extremeValues_keepSignedOrder() {
+            List<Integer> expected = new ArrayList<>(List.of(Integer.MAX_VALUE, 0, Integer.MIN_VALUE,
+                    -1, 1, 65_536, -65_537, Integer.MAX_VALUE));
+            list.addAll(expected);
+            expected.sort(null);
+
+            assertEquals(expected, list.toList());
+            assertEquals(Integer.MIN_VALUE, list.first().orElseThrow());
+            assertEquals(Integer.MAX_VALUE, list.last().orElseThrow());
+            assertEquals(2, list.count(Integer.MAX_VALUE));
+            assertEquals(7, list.distinctCount());
+            assertEquals(3, list.indexOf(0));
+            assertEquals(3, list.rankOf(-1));
+            assertFalse(list.contains(2));
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(67);
+
+            // Dense enough around zero for containers to switch between array and bitmap form
+            for (int i = 0; i < 40_000; i++) {
+                int value = random.nextInt(12_000) - 2_000;
+                switch (random.nextInt(9)) {
+                    case 0, 1, 2, 3 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 4 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 5 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 6 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.get(index), list.get(index));
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+                assertEquals(reference.size(), list.size());
+                if (i % 5_000 == 0) {
+                    list.runOptimize();
+                }
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+            assertEquals(reference.first(), list.first());
+            assertEquals(reference.last(), list.last());
+        }
+    }
+
+    @Nested
+    @DisplayName("Containers")
+    class ContainerTests {
+
+        @Test
+        @DisplayName("dense ranges survive bitmap and run conversions")
+        void denseRange_convertsContainers() {
+            for (int i = 0; i < 100_000; i++) {
+                list.add(1_000_000 + i);
+            }
+            list.add(1_000_500);
+
+            assertTrue(list.runOptimize());
+            assertFalse(list.runOptimize());
+            assertEquals(100_001, list.size());
+            assertEquals(1_000_000, list.get(0));
+            assertEquals(1_000_500, list.get(501));
+            assertEquals(1_050_000, list.get(50_001));
+            assertEquals(50_001, list.indexOf(1_050_000));
+            assertEquals(2, list.count(1_000_500));
+            assertTrue(list.contains(1_099_999));
+            assertFalse(list.contains(1_100_000));
+
+            assertTrue(list.remove(1_070_000));
+            assertFalse(list.contains(1_070_000));
+            assertEquals(1_070_001, list.get(70_001));
+            assertEquals(1_099_999, list.last().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("and() keeps common values with their smaller counts")
+        void and_intersectsContainers() {
+            RoaringSortedList other = RoaringSortedList.ofIntegers();
+            for (int i = 0; i < 20_000; i++) {
+                list.add(i);
+                if (i % 3 == 0) {
+                    other.add(i);
+                }
+            }
+            list.add(3);
+            list.add(3);
+            other.add(3);
+            other.add(4);
+            other.add(-5);
+            other.add(1_000_000);
+            other.runOptimize();
+
+            RoaringSortedList common = list.and(other);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 20_000; i += 3) {
+                expected.add(i);
+            }
+            expected.add(1, 3);
+            expected.add(3, 4);
+            assertEquals(expected, common.toList());
+            assertEquals(2, common.count(3));
+            assertEquals(common, other.and(list));
+            assertTrue(list.and(RoaringSortedList.ofIntegers()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator().remove() removes occurrences across containers")
+        void iteratorRemove_removesElements() {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 300_000; i += 1_000) {
+                list.add(i);
+                list.add(i);
+                expected.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            int index = 0;
+            while (iterator.hasNext()) {
+                assertEquals(expected.get(index / 2), iterator.next());
+                if (index++ % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertEquals(expected, list.toList());
+            assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        }
+
+        @Test
+        @DisplayName("iterator is fail-fast and equality compares contents")
+        void iterator_isFailFast() {
+            RoaringSortedList other = RoaringSortedList.ofIntegers();
+            list.addAll(List.of(1, 2));
+            other.addAll(List.of(2, 1));
+            assertEquals(other, list);
+
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(3);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertNotEquals(other, list);
+        }
+    }
+}
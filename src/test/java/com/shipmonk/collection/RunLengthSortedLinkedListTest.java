@@ -0,0 +1,163 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RunLengthSortedLinkedList.
+ */
+@DisplayName("RunLengthSortedLinkedList")
+class RunLengthSortedLinkedListTest {
+
+    private RunLengthSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = RunLengthSortedLinkedList.ofIntegers();
+    }
+
+    @Nested
+    @DisplayName("Run-Length Encoding")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("duplicates share one node but count as separate elements")
+        void duplicates_shareOneNode() {
+            for (int i = 0; i < 1_000; i++) {
+                list.add(i % 3);
+            }
+            list.add(-1);
+
+            assertEquals(1_001, list.size());
+            assertEquals(4, list.distinctCount());
+            assertEquals(334, list.count(0));
+            assertEquals(333, list.count(2));
+            assertEquals(0, list.count(5));
+            assertEquals(-1, list.get(0));
+            assertEquals(0, list.get(334));
+            assertEquals(1, list.get(335));
+            assertEquals(2, list.get(1_000));
+            assertEquals(668, list.indexOf(2));
+            assertEquals(668, list.rankOf(1));
+        }
+
+        @Test
+        @DisplayName("removeAll() drops a whole run and remove() one occurrence")
+        void removeAll_dropsRun() {
+            for (int i = 0; i < 10; i++) {
+                list.add(7);
+                list.add(3);
+            }
+
+            assertTrue(list.remove(3));
+            assertEquals(9, list.count(3));
+            assertEquals(10, list.removeAll(7));
+            assertEquals(0, list.removeAll(7));
+            assertFalse(list.remove(7));
+            assertEquals(1, list.distinctCount());
+            assertEquals(3, list.removeAt(8));
+            assertEquals(8, list.size());
+            assertEquals("[3, 3, 3, 3, 3, 3, 3, 3]", list.toString());
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(53);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(40) - 20;
+                switch (random.nextInt(7)) {
+                    case 0, 1, 2 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 3 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 4 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 5 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.get(index), list.get(index));
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.toList(), list.stream().toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+            assertEquals(reference.first(), list.first());
+            assertEquals(reference.last(), list.last());
+        }
+
+        @Test
+        @DisplayName("String lists and equality")
+        void strings_andEquality() {
+            RunLengthSortedLinkedList<String> first = RunLengthSortedLinkedList.ofStrings();
+            RunLengthSortedLinkedList<String> second = RunLengthSortedLinkedList.ofStrings();
+            first.addAll(List.of("b", "a", "b"));
+            second.addAll(List.of("b", "b", "a"));
+
+            assertEquals(List.of("a", "b", "b"), first.toList());
+            assertEquals(first, second);
+            assertEquals(first.hashCode(), second.hashCode());
+            second.add("a");
+            assertNotEquals(first, second);
+            assertThrows(NullPointerException.class, () -> first.add(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> first.get(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator().remove() removes single occurrences")
+        void iteratorRemove_removesOccurrences() {
+            list.addAll(List.of(1, 1, 1, 2, 2, 3));
+
+            Iterator<Integer> iterator = list.iterator();
+            int index = 0;
+            while (iterator.hasNext()) {
+                iterator.next();
+                if (index++ % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertEquals(List.of(1, 2, 3), list.toList());
+            assertEquals(3, list.distinctCount());
+            assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        }
+
+        @Test
+        @DisplayName("iterator is fail-fast")
+        void iterator_isFailFast() {
+            list.add(1);
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(1);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+    }
+}
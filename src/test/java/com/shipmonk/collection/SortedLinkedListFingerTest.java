@@ -0,0 +1,160 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedLinkedList using finger search.
+ */
+@DisplayName("SortedLinkedList with SearchMode.FINGER")
+class SortedLinkedListFingerTest {
+
+    private SortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = SortedLinkedList.ofIntegers(SearchMode.FINGER);
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("add() handles a nearly sorted stream")
+        void add_handlesNearlySortedStream() {
+            Random random = new Random(1);
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            for (int i = 0; i < 5_000; i++) {
+                int value = i + random.nextInt(20) - 10;
+                list.add(value);
+                reference.add(value);
+            }
+
+            assertEquals(reference, list);
+        }
+
+        @Test
+        @DisplayName("add() searches backwards from the finger")
+        void add_searchesBackwards() {
+            list.add(10);
+            list.add(50);
+            list.add(40);
+            list.add(20);
+            list.add(30);
+            list.add(15);
+
+            assertEquals(List.of(10, 15, 20, 30, 40, 50), list.toList());
+        }
+
+        @Test
+        @DisplayName("add() places duplicates after equal elements when moving backwards")
+        void add_placesDuplicatesAfterEqualElements() {
+            SortedLinkedList<String> strings = SortedLinkedList.ofStrings(SearchMode.FINGER);
+            String first = new String("m");
+            String second = new String("m");
+            strings.add("a");
+            strings.add(first);
+            strings.add("z");
+            strings.add("y");
+            strings.add(second);
+
+            assertSame(first, strings.get(1));
+            assertSame(second, strings.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalence with Linear Mode")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("random operations produce the same results as the linear list")
+        void randomOperations_matchLinearList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(9);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(300);
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 2 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 3 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.floor(value), list.floor(value));
+                        assertEquals(reference.higher(value), list.higher(value));
+                    }
+                }
+            }
+
+            assertEquals(reference, list);
+        }
+    }
+
+    @Nested
+    @DisplayName("Finger Maintenance")
+    class FingerMaintenanceTests {
+
+        @Test
+        @DisplayName("removing the finger node keeps searches working")
+        void removeFingerNode_keepsSearchesWorking() {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+
+            assertTrue(list.remove(3));
+            assertTrue(list.contains(2));
+            assertTrue(list.remove(2));
+            assertTrue(list.remove(1));
+            assertFalse(list.contains(1));
+
+            list.add(4);
+            assertEquals(List.of(4), list.toList());
+        }
+
+        @Test
+        @DisplayName("iterator().remove() of the finger node keeps searches working")
+        void iteratorRemove_keepsSearchesWorking() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() >= 5) {
+                    iterator.remove();
+                }
+            }
+            list.add(7);
+
+            assertEquals(List.of(0, 1, 2, 3, 4, 7), list.toList());
+            assertTrue(list.contains(4));
+            assertFalse(list.contains(9));
+        }
+
+        @Test
+        @DisplayName("clear() resets the finger")
+        void clear_resetsFinger() {
+            list.add(5);
+            list.clear();
+            list.add(3);
+            list.add(1);
+            list.add(2);
+
+            assertEquals(List.of(1, 2, 3), list.toList());
+        }
+    }
+}
@@ -5,8 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,6 +137,177 @@ class SortedLinkedListIntegerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk Add Operations")
+    class BulkAddTests {
+
+        @Test
+        @DisplayName("addAll() merges an unsorted batch into the list")
+        void addAll_mergesUnsortedBatch() {
+            list.add(10);
+            list.add(30);
+
+            list.addAll(List.of(35, 5, 20, 30, 10, 40));
+
+            assertEquals(List.of(5, 10, 10, 20, 30, 30, 35, 40), list.toList());
+            assertEquals(8, list.size());
+            assertEquals(5, list.first().orElseThrow());
+            assertEquals(40, list.last().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("addAll() accepts arrays without modifying them")
+        void addAll_acceptsArrays() {
+            Integer[] batch = {3, 1, 2};
+
+            list.addAll(batch);
+
+            assertEquals(List.of(1, 2, 3), list.toList());
+            assertArrayEquals(new Integer[]{3, 1, 2}, batch);
+        }
+
+        @Test
+        @DisplayName("addAll() rejects null values and leaves the list unchanged")
+        void addAll_rejectsNullValues() {
+            list.add(1);
+
+            assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList(2, null)));
+            assertThrows(NullPointerException.class, () -> list.addAll((List<Integer>) null));
+            assertEquals(List.of(1), list.toList());
+        }
+
+        @Test
+        @DisplayName("addAll() invalidates running iterators")
+        void addAll_invalidatesIterators() {
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+
+            list.addAll(List.of(2, 3));
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("addAll() with an empty batch keeps the list unchanged")
+        void addAll_emptyBatch() {
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+
+            list.addAll(List.of());
+
+            assertEquals(1, iterator.next());
+        }
+    }
+
+    @Nested
+    @DisplayName("Merge Operations")
+    class MergeTests {
+
+        @Test
+        @DisplayName("mergeFrom() moves all elements and empties the other list")
+        void mergeFrom_movesAllElements() {
+            SortedLinkedList<Integer> other = SortedLinkedList.ofIntegers();
+            list.add(1);
+            list.add(5);
+            list.add(9);
+            other.add(0);
+            other.add(5);
+            other.add(7);
+            other.add(12);
+
+            list.mergeFrom(other);
+
+            assertEquals(List.of(0, 1, 5, 5, 7, 9, 12), list.toList());
+            assertEquals(7, list.size());
+            assertEquals(12, list.last().orElseThrow());
+            assertTrue(other.isEmpty());
+            assertTrue(other.last().isEmpty());
+        }
+
+        @Test
+        @DisplayName("mergeFrom() into an empty list takes over the other chain")
+        void mergeFrom_intoEmptyList() {
+            SortedLinkedList<Integer> other = SortedLinkedList.ofIntegers();
+            other.add(2);
+            other.add(1);
+
+            list.mergeFrom(other);
+            list.add(3);
+
+            assertEquals(List.of(1, 2, 3), list.toList());
+            assertTrue(other.isEmpty());
+        }
+
+        @Test
+        @DisplayName("mergeFrom() places the other list's elements after equal elements")
+        void mergeFrom_placesAfterEqualElements() {
+            SortedLinkedList<String> target = SortedLinkedList.ofStrings();
+            SortedLinkedList<String> source = SortedLinkedList.ofStrings();
+            String own = new String("k");
+            String incoming = new String("k");
+            target.add(own);
+            source.add(incoming);
+
+            target.mergeFrom(source);
+
+            assertSame(own, target.get(0));
+            assertSame(incoming, target.get(1));
+        }
+
+        @Test
+        @DisplayName("mergeFrom() rejects merging a list into itself")
+        void mergeFrom_rejectsSelf() {
+            assertThrows(IllegalArgumentException.class, () -> list.mergeFrom(list));
+            assertThrows(NullPointerException.class, () -> list.mergeFrom(null));
+        }
+
+        @Test
+        @DisplayName("merged() builds a new list and leaves the inputs untouched")
+        void merged_buildsNewList() {
+            SortedLinkedList<Integer> other = SortedLinkedList.ofIntegers();
+            list.add(1);
+            list.add(4);
+            other.add(2);
+            other.add(3);
+            other.add(4);
+
+            SortedLinkedList<Integer> result = SortedLinkedList.merged(list, other);
+
+            assertEquals(List.of(1, 2, 3, 4, 4), result.toList());
+            assertEquals(List.of(1, 4), list.toList());
+            assertEquals(List.of(2, 3, 4), other.toList());
+            result.add(0);
+            assertEquals(List.of(1, 4), list.toList());
+        }
+
+        @Test
+        @DisplayName("fromSortedIntegers() builds a list from ascending input")
+        void fromSorted_buildsList() {
+            SortedLinkedList<Integer> fromIterator = SortedLinkedList.fromSortedIntegers(List.of(1, 2, 2, 5).iterator());
+            SortedLinkedList<Integer> fromStream = SortedLinkedList.fromSortedIntegers(Stream.of(1, 2, 2, 5));
+
+            assertEquals(List.of(1, 2, 2, 5), fromIterator.toList());
+            assertEquals(fromIterator, fromStream);
+            assertEquals(2, fromIterator.count(2));
+            assertEquals(5, fromIterator.last().orElseThrow());
+            fromIterator.add(3);
+            assertEquals(List.of(1, 2, 2, 3, 5), fromIterator.toList());
+            assertTrue(SortedLinkedList.fromSortedIntegers(Stream.empty()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("fromSortedIntegers() rejects unsorted and null input")
+        void fromSorted_rejectsInvalidInput() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> SortedLinkedList.fromSortedIntegers(List.of(1, 3, 2).iterator()));
+            assertTrue(e.getMessage().contains("index 2"));
+            assertThrows(NullPointerException.class,
+                    () -> SortedLinkedList.fromSortedIntegers(Arrays.asList(1, null).iterator()));
+            assertThrows(NullPointerException.class,
+                    () -> SortedLinkedList.fromSortedIntegers((Stream<Integer>) null));
+        }
+    }
+
     @Nested
     @DisplayName("Remove Operations")
     class RemoveTests {
@@ -251,6 +426,86 @@ class SortedLinkedListIntegerTest {
             assertEquals(List.of(1, 2, 4, 5), list.toList());
         }
 
+        @Test
+        @DisplayName("removeByHandle() removes exactly the handled occurrence")
+        void removeByHandle_removesHandledOccurrence() {
+            list.add(20);
+            ElementHandle<Integer> handle = list.addAndGetHandle(20);
+            list.add(10);
+            list.add(30);
+
+            assertEquals(20, handle.value());
+            assertTrue(handle.isValid());
+            assertTrue(list.removeByHandle(handle));
+            assertEquals(List.of(10, 20, 30), list.toList());
+            assertFalse(handle.isValid());
+            assertFalse(list.removeByHandle(handle));
+            assertEquals(3, list.size());
+        }
+
+        @Test
+        @DisplayName("removeByHandle() detects stale handles")
+        void removeByHandle_detectsStaleHandles() {
+            ElementHandle<Integer> first = list.addAndGetHandle(1);
+            ElementHandle<Integer> second = list.addAndGetHandle(2);
+            ElementHandle<Integer> third = list.addAndGetHandle(3);
+
+            assertTrue(list.remove(2));
+            assertFalse(second.isValid());
+            assertTrue(list.removeByHandle(third));
+            assertTrue(list.removeByHandle(first));
+            assertTrue(list.isEmpty());
+
+            ElementHandle<Integer> cleared = list.addAndGetHandle(4);
+            list.clear();
+            list.add(4);
+            assertFalse(list.removeByHandle(cleared));
+            assertEquals(List.of(4), list.toList());
+
+            ElementHandle<Integer> foreign = SortedLinkedList.ofIntegers().addAndGetHandle(4);
+            assertThrows(IllegalArgumentException.class, () -> list.removeByHandle(foreign));
+            assertThrows(NullPointerException.class, () -> list.removeByHandle(null));
+        }
+
+        @Test
+        @DisplayName("update() moves the element to its new position")
+        void update_movesElement() {
+            list.add(10);
+            list.add(20);
+            ElementHandle<Integer> handle = list.addAndGetHandle(30);
+            list.add(40);
+            list.add(50);
+
+            assertTrue(list.update(handle, 45));
+            assertEquals(List.of(10, 20, 40, 45, 50), list.toList());
+            assertTrue(list.update(handle, 5));
+            assertEquals(List.of(5, 10, 20, 40, 50), list.toList());
+            assertTrue(list.update(handle, 7));
+            assertEquals(List.of(7, 10, 20, 40, 50), list.toList());
+            assertTrue(list.update(handle, 99));
+            assertEquals(List.of(10, 20, 40, 50, 99), list.toList());
+            assertEquals(99, list.last().orElseThrow());
+            assertEquals(99, handle.value());
+            assertTrue(handle.isValid());
+            assertEquals(5, list.size());
+        }
+
+        @Test
+        @DisplayName("update() places the element after equal elements")
+        void update_placesAfterEqualElements() {
+            ElementHandle<Integer> handle = list.addAndGetHandle(1);
+            list.add(2);
+            list.add(2);
+            list.add(3);
+
+            assertTrue(list.update(handle, 2));
+            assertEquals(List.of(2, 2, 2, 3), list.toList());
+            assertTrue(list.removeByHandle(handle));
+            assertEquals(List.of(2, 2, 3), list.toList());
+            assertFalse(list.update(handle, 1));
+            assertThrows(NullPointerException.class, () -> list.update(list.addAndGetHandle(1), null));
+        }
+
         @Test
         @DisplayName("removeAt() removes head element (index 0)")
         void removeAt_removesHead() {
@@ -434,6 +689,69 @@ class SortedLinkedListIntegerTest {
             assertEquals(-1, list.indexOf(20));
         }
 
+        @Test
+        @DisplayName("rankOf() returns insertion index after equal elements")
+        void rankOf_returnsInsertionIndex() {
+            list.add(10);
+            list.add(20);
+            list.add(20);
+
+            assertEquals(0, list.rankOf(5));
+            assertEquals(3, list.rankOf(20));
+            assertEquals(3, list.rankOf(25));
+        }
+
+        @Test
+        @DisplayName("countLessThan() and countInRange() count by value")
+        void countLessThanAndCountInRange_countByValue() {
+            list.add(10);
+            list.add(20);
+            list.add(20);
+            list.add(30);
+
+            assertEquals(0, list.countLessThan(10));
+            assertEquals(1, list.countLessThan(20));
+            assertEquals(3, list.countLessThan(21));
+            assertEquals(4, list.countLessThan(99));
+            assertEquals(2, list.countInRange(20, 30));
+            assertEquals(3, list.countInRange(15, 31));
+            assertEquals(0, list.countInRange(20, 20));
+            assertThrows(IllegalArgumentException.class, () -> list.countInRange(30, 20));
+            assertThrows(NullPointerException.class, () -> list.countLessThan(null));
+        }
+
+        @Test
+        @DisplayName("floor(), ceiling(), higher() and lower() find neighbors")
+        void neighborQueries_findNeighbors() {
+            list.add(10);
+            list.add(20);
+            list.add(20);
+            list.add(30);
+
+            assertEquals(Optional.of(20), list.floor(20));
+            assertEquals(Optional.of(20), list.floor(25));
+            assertEquals(Optional.empty(), list.floor(5));
+            assertEquals(Optional.of(20), list.ceiling(20));
+            assertEquals(Optional.of(30), list.ceiling(21));
+            assertEquals(Optional.empty(), list.ceiling(31));
+            assertEquals(Optional.of(30), list.higher(20));
+            assertEquals(Optional.of(10), list.higher(5));
+            assertEquals(Optional.empty(), list.higher(30));
+            assertEquals(Optional.of(10), list.lower(20));
+            assertEquals(Optional.of(30), list.lower(99));
+            assertEquals(Optional.empty(), list.lower(10));
+            assertThrows(NullPointerException.class, () -> list.floor(null));
+        }
+
+        @Test
+        @DisplayName("neighbor queries on empty list return empty")
+        void neighborQueries_emptyList() {
+            assertEquals(Optional.empty(), list.floor(1));
+            assertEquals(Optional.empty(), list.ceiling(1));
+            assertEquals(Optional.empty(), list.higher(1));
+            assertEquals(Optional.empty(), list.lower(1));
+        }
+
         @Test
         @DisplayName("count() returns correct count of occurrences")
         void count_returnsCorrectCount() {
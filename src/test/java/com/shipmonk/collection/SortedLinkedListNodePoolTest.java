@@ -0,0 +1,134 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedLinkedList with node recycling enabled.
+ */
+@DisplayName("SortedLinkedList with a node pool")
+class SortedLinkedListNodePoolTest {
+
+    private SortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = SortedLinkedList.ofIntegers(SearchMode.LINEAR, 4);
+    }
+
+    @Nested
+    @DisplayName("Recycling")
+    class RecyclingTests {
+
+        @Test
+        @DisplayName("removed nodes are reused by later inserts")
+        void removedNodes_areReused() {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+            assertEquals(0, list.nodePoolHits());
+            assertEquals(3, list.nodePoolMisses());
+
+            assertTrue(list.remove(2));
+            assertEquals(1, list.removeAt(0));
+            list.add(5);
+            list.add(4);
+            list.add(6);
+
+            assertEquals(2, list.nodePoolHits());
+            assertEquals(4, list.nodePoolMisses());
+            assertEquals(List.of(3, 4, 5, 6), list.toList());
+        }
+
+        @Test
+        @DisplayName("the pool keeps at most its capacity")
+        void pool_isBounded() {
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertEquals(4, list.nodePoolHits());
+            assertEquals(16, list.nodePoolMisses());
+            assertEquals(10, list.size());
+        }
+
+        @Test
+        @DisplayName("lists without a pool report no hits or misses")
+        void noPool_reportsZero() {
+            SortedLinkedList<String> strings = SortedLinkedList.ofStrings();
+            strings.add("a");
+            strings.remove("a");
+            strings.add("b");
+
+            assertEquals(0, strings.nodePoolHits());
+            assertEquals(0, strings.nodePoolMisses());
+            assertThrows(IllegalArgumentException.class, () -> SortedLinkedList.ofStrings(SearchMode.LINEAR, -1));
+        }
+
+        @Test
+        @DisplayName("stale handles are not revived by recycling")
+        void staleHandles_areNotRevived() {
+            ElementHandle<Integer> handle = list.addAndGetHandle(7);
+            list.add(8);
+
+            assertTrue(list.remove(7));
+            list.add(9);
+            list.add(7);
+
+            assertFalse(handle.isValid());
+            assertFalse(list.removeByHandle(handle));
+            assertEquals(7, handle.value());
+            assertEquals(List.of(7, 8, 9), list.toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalence with Unpooled Lists")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("random operations produce the same results in every search mode")
+        void randomOperations_matchUnpooledList() {
+            for (SearchMode mode : SearchMode.values()) {
+                SortedLinkedList<Integer> pooled = SortedLinkedList.ofIntegers(mode, 64);
+                SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+                Random random = new Random(31);
+
+                for (int i = 0; i < 20_000; i++) {
+                    int value = random.nextInt(300);
+                    switch (random.nextInt(5)) {
+                        case 0, 1 -> {
+                            pooled.add(value);
+                            reference.add(value);
+                        }
+                        case 2 -> assertEquals(reference.remove(value), pooled.remove(value));
+                        case 3 -> assertEquals(reference.removeAll(value), pooled.removeAll(value));
+                        default -> {
+                            assertEquals(reference.contains(value), pooled.contains(value));
+                            assertEquals(reference.count(value), pooled.count(value));
+                        }
+                    }
+                }
+
+                assertEquals(reference, pooled);
+                assertTrue(pooled.nodePoolHits() > 0);
+            }
+        }
+    }
+}
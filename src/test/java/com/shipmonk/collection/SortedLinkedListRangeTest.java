@@ -0,0 +1,157 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the value-range views of SortedLinkedList.
+ */
+@DisplayName("SortedLinkedList Range Views")
+class SortedLinkedListRangeTest {
+
+    private static SortedLinkedList<Integer> listOf(SearchMode searchMode, Integer... values) {
+        SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers(searchMode);
+        list.addAll(values);
+        return list;
+    }
+
+    @Nested
+    @DisplayName("Bounds")
+    class BoundsTests {
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("range() includes the lower bound and excludes the upper bound")
+        void range_isHalfOpen(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = listOf(searchMode, 1, 3, 3, 5, 7, 9);
+
+            assertEquals(List.of(3, 3, 5), list.range(3, 7).toList());
+            assertEquals(List.of(3, 3, 5, 7), list.range(2, 8).toList());
+            assertEquals(List.of(), list.range(5, 5).toList());
+            assertEquals(List.of(), list.range(10, 20).toList());
+            assertTrue(list.range(4, 5).isEmpty());
+        }
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("headRange() and tailRange() are open on one side")
+        void headAndTailRange_areOpenOnOneSide(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = listOf(searchMode, 1, 3, 5, 7);
+
+            assertEquals(List.of(1, 3), list.headRange(5).toList());
+            assertEquals(List.of(), list.headRange(1).toList());
+            assertEquals(List.of(5, 7), list.tailRange(5).toList());
+            assertEquals(List.of(1, 3, 5, 7), list.tailRange(0).toList());
+            assertEquals(List.of(), list.tailRange(8).toList());
+        }
+
+        @Test
+        @DisplayName("range views work with String lists")
+        void range_worksWithStrings() {
+            SortedLinkedList<String> list = SortedLinkedList.ofStrings();
+            list.addAll(List.of("apple", "banana", "cherry", "date"));
+
+            assertEquals(List.of("banana", "cherry"), list.range("b", "d").toList());
+            assertEquals("[apple]", list.headRange("b").toString());
+        }
+
+        @Test
+        @DisplayName("range methods reject null and inverted bounds")
+        void range_rejectsInvalidBounds() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 1, 2);
+
+            assertThrows(NullPointerException.class, () -> list.range(null, 2));
+            assertThrows(NullPointerException.class, () -> list.range(1, null));
+            assertThrows(NullPointerException.class, () -> list.headRange(null));
+            assertThrows(NullPointerException.class, () -> list.tailRange(null));
+            assertThrows(IllegalArgumentException.class, () -> list.range(2, 1));
+        }
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("random ranges match a filtered copy of the list")
+        void randomRanges_matchFilteredList(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers(searchMode);
+            Random random = new Random(11);
+            for (int i = 0; i < 2_000; i++) {
+                list.add(random.nextInt(500));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                int a = random.nextInt(520) - 10;
+                int b = a + random.nextInt(100);
+                List<Integer> expected = list.stream()
+                        .filter(v -> v >= a && v < b)
+                        .collect(Collectors.toList());
+                assertEquals(expected, list.range(a, b).toList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Laziness")
+    class LazinessTests {
+
+        @Test
+        @DisplayName("views reflect modifications made after they were created")
+        void views_reflectLaterModifications() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 1, 5);
+            RangeView<Integer> view = list.range(2, 10);
+
+            assertEquals(List.of(5), view.toList());
+            list.add(3);
+            assertEquals(List.of(3, 5), view.toList());
+        }
+
+        @Test
+        @DisplayName("stream() seeks when the terminal operation starts")
+        void stream_seeksAtTerminalOperation() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.SKIP_LIST, 1, 5, 9);
+            Stream<Integer> stream = list.tailRange(4).stream();
+            list.add(4);
+
+            assertEquals(List.of(4, 5, 9), stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator Behavior")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator() is fail-fast")
+        void iterator_isFailFast() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 1, 2, 3);
+            Iterator<Integer> iterator = list.range(1, 3).iterator();
+
+            assertEquals(1, iterator.next());
+            list.add(0);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("iterator() stops at the upper bound and rejects remove()")
+        void iterator_stopsAtUpperBound() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 1, 2, 3);
+            Iterator<Integer> iterator = list.headRange(2).iterator();
+
+            assertEquals(1, iterator.next());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+        }
+    }
+}
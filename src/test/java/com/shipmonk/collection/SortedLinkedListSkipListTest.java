@@ -0,0 +1,469 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedLinkedList backed by a skip-list index.
+ */
+@DisplayName("SortedLinkedList with SearchMode.SKIP_LIST")
+class SortedLinkedListSkipListTest {
+
+    private SortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = SortedLinkedList.ofIntegers(SearchMode.SKIP_LIST);
+    }
+
+    @Nested
+    @DisplayName("Creation and Factory Methods")
+    class FactoryMethodTests {
+
+        @Test
+        @DisplayName("ofIntegers(SKIP_LIST) creates an empty list")
+        void ofIntegers_createsEmptyList() {
+            assertTrue(list.isEmpty());
+            assertEquals(0, list.size());
+        }
+
+        @Test
+        @DisplayName("factories reject null search mode")
+        void factories_rejectNullSearchMode() {
+            assertThrows(NullPointerException.class, () -> SortedLinkedList.ofIntegers(null));
+            assertThrows(NullPointerException.class, () -> SortedLinkedList.ofStrings(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("add() maintains sorted order for reverse input")
+        void add_maintainsSortedOrderForReverseInput() {
+            for (int i = 1000; i >= 1; i--) {
+                list.add(i);
+            }
+
+            assertEquals(1000, list.size());
+            assertEquals(1, list.first().orElseThrow());
+            assertEquals(1000, list.last().orElseThrow());
+            int expected = 1;
+            for (Integer value : list) {
+                assertEquals(expected++, value);
+            }
+        }
+
+        @Test
+        @DisplayName("add() places duplicates after existing equal elements")
+        void add_placesDuplicatesAfterEqualElements() {
+            SortedLinkedList<String> strings = SortedLinkedList.ofStrings(SearchMode.SKIP_LIST);
+            String first = new String("same");
+            String second = new String("same");
+            String third = new String("same");
+            strings.add("b");
+            strings.add(first);
+            strings.add("a");
+            strings.add(second);
+            strings.add(third);
+
+            List<String> values = strings.toList();
+
+            assertEquals(List.of("a", "b", "same", "same", "same"), values);
+            assertSame(first, values.get(2));
+            assertSame(second, values.get(3));
+            assertSame(third, values.get(4));
+        }
+
+        @Test
+        @DisplayName("remove() removes the first of several duplicates")
+        void remove_removesFirstDuplicate() {
+            SortedLinkedList<String> strings = SortedLinkedList.ofStrings(SearchMode.SKIP_LIST);
+            String first = new String("x");
+            String second = new String("x");
+            strings.add(first);
+            strings.add(second);
+
+            assertTrue(strings.remove("x"));
+
+            assertSame(second, strings.first().orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalence with Linear Mode")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("random operations produce the same results as the linear list")
+        void randomOperations_matchLinearList() {
+            SortedLinkedList<Integer> linear = SortedLinkedList.ofIntegers();
+            List<Integer> reference = new ArrayList<>();
+            Random random = new Random(42);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(500);
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> {
+                        list.add(value);
+                        linear.add(value);
+                        reference.add(firstIndexOf(reference, value + 1), value);
+                    }
+                    case 2 -> {
+                        boolean removed = reference.remove(Integer.valueOf(value));
+                        assertEquals(removed, list.remove(value));
+                        assertEquals(removed, linear.remove(value));
+                    }
+                    case 3 -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(Collections.frequency(reference, value), list.count(value));
+                    }
+                    default -> {
+                        int removed = Collections.frequency(reference, value);
+                        reference.removeIf(v -> v == value);
+                        assertEquals(removed, list.removeAll(value));
+                        assertEquals(removed, linear.removeAll(value));
+                    }
+                }
+            }
+
+            assertEquals(reference, list.toList());
+            assertEquals(linear, list);
+            assertEquals(reference.size(), list.size());
+        }
+
+        private int firstIndexOf(List<Integer> values, int value) {
+            int low = 0;
+            int high = values.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values.get(mid) < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    @Nested
+    @DisplayName("Positional Access")
+    class PositionalAccessTests {
+
+        @Test
+        @DisplayName("get(), indexOf() and rankOf() agree with a reference list under random operations")
+        void positionalQueries_matchReferenceList() {
+            List<Integer> reference = new ArrayList<>();
+            Random random = new Random(7);
+
+            for (int i = 0; i < 5_000; i++) {
+                int value = random.nextInt(300);
+                if (random.nextInt(3) == 0 && !reference.isEmpty()) {
+                    int position = random.nextInt(reference.size());
+                    assertEquals(reference.remove(position), list.removeAt(position));
+                } else {
+                    list.add(value);
+                    reference.add(upperBound(reference, value), value);
+                }
+
+                int probe = random.nextInt(300);
+                assertEquals(reference.indexOf(probe), list.indexOf(probe));
+                assertEquals(upperBound(reference, probe), list.rankOf(probe));
+                if (!reference.isEmpty()) {
+                    int position = random.nextInt(reference.size());
+                    assertEquals(reference.get(position), list.get(position));
+                }
+            }
+
+            assertEquals(reference, list.toList());
+        }
+
+        @Test
+        @DisplayName("get() returns every element of a large list")
+        void get_returnsEveryElement() {
+            for (int i = 0; i < 10_000; i++) {
+                list.add(i * 2);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(i * 2, list.get(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+        }
+
+        @Test
+        @DisplayName("rankOf() returns the insertion index after equal elements")
+        void rankOf_returnsInsertionIndex() {
+            list.add(10);
+            list.add(20);
+            list.add(20);
+            list.add(30);
+
+            assertEquals(0, list.rankOf(5));
+            assertEquals(1, list.rankOf(10));
+            assertEquals(3, list.rankOf(20));
+            assertEquals(3, list.rankOf(25));
+            assertEquals(4, list.rankOf(99));
+        }
+
+        @Test
+        @DisplayName("countLessThan() and countInRange() agree with a linear list")
+        void rankCounts_matchLinearList() {
+            SortedLinkedList<String> indexed = SortedLinkedList.ofStrings(SearchMode.SKIP_LIST);
+            SortedLinkedList<String> linear = SortedLinkedList.ofStrings();
+            Random random = new Random(13);
+            for (int i = 0; i < 3_000; i++) {
+                String value = Integer.toString(random.nextInt(1_000));
+                indexed.add(value);
+                linear.add(value);
+                list.add(random.nextInt(1_000));
+            }
+
+            for (int i = 0; i < 500; i++) {
+                int a = random.nextInt(1_000);
+                int b = a + random.nextInt(200);
+                String from = Integer.toString(a);
+                String to = Integer.toString(b);
+                assertEquals(linear.countLessThan(from), indexed.countLessThan(from));
+                if (from.compareTo(to) <= 0) {
+                    assertEquals(linear.countInRange(from, to), indexed.countInRange(from, to));
+                }
+                long expected = list.stream().filter(v -> v >= a && v < b).count();
+                assertEquals(expected, list.countInRange(a, b));
+                assertEquals(upperBound(list.toList(), a - 1), list.countLessThan(a));
+            }
+        }
+
+        @Test
+        @DisplayName("removeByHandle() keeps the index consistent")
+        void removeByHandle_keepsIndexConsistent() {
+            List<ElementHandle<Integer>> handles = new ArrayList<>();
+            Random random = new Random(19);
+            for (int i = 0; i < 2_000; i++) {
+                handles.add(list.addAndGetHandle(random.nextInt(100)));
+            }
+            Collections.shuffle(handles, random);
+
+            for (int i = 0; i < 1_000; i++) {
+                assertTrue(list.removeByHandle(handles.get(i)));
+            }
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 1_000; i < 2_000; i++) {
+                expected.add(handles.get(i).value());
+            }
+            Collections.sort(expected);
+
+            assertEquals(expected, list.toList());
+            for (int i = 0; i < expected.size(); i += 37) {
+                assertEquals(expected.get(i), list.get(i));
+                assertEquals(expected.indexOf(expected.get(i)), list.indexOf(expected.get(i)));
+            }
+        }
+
+        @Test
+        @DisplayName("update() keeps the index consistent")
+        void update_keepsIndexConsistent() {
+            List<ElementHandle<Integer>> handles = new ArrayList<>();
+            Random random = new Random(23);
+            for (int i = 0; i < 2_000; i++) {
+                handles.add(list.addAndGetHandle(random.nextInt(1_000)));
+            }
+
+            for (int i = 0; i < 5_000; i++) {
+                ElementHandle<Integer> handle = handles.get(random.nextInt(handles.size()));
+                assertTrue(list.update(handle, handle.value() + random.nextInt(41) - 20));
+            }
+            List<Integer> expected = new ArrayList<>();
+            for (ElementHandle<Integer> handle : handles) {
+                expected.add(handle.value());
+            }
+            Collections.sort(expected);
+
+            assertEquals(expected, list.toList());
+            for (int i = 0; i < expected.size(); i += 37) {
+                assertEquals(expected.get(i), list.get(i));
+                assertEquals(upperBound(expected, expected.get(i)), list.rankOf(expected.get(i)));
+            }
+        }
+
+        @Test
+        @DisplayName("floor(), ceiling(), higher() and lower() agree with a TreeSet")
+        void neighborQueries_matchTreeSet() {
+            SortedLinkedList<Integer> linear = SortedLinkedList.ofIntegers();
+            TreeSet<Integer> reference = new TreeSet<>();
+            Random random = new Random(17);
+            for (int i = 0; i < 2_000; i++) {
+                int value = random.nextInt(5_000);
+                list.add(value);
+                linear.add(value);
+                reference.add(value);
+            }
+
+            for (int probe = -1; probe <= 5_000; probe += 7) {
+                assertEquals(Optional.ofNullable(reference.floor(probe)), list.floor(probe));
+                assertEquals(Optional.ofNullable(reference.ceiling(probe)), list.ceiling(probe));
+                assertEquals(Optional.ofNullable(reference.higher(probe)), list.higher(probe));
+                assertEquals(Optional.ofNullable(reference.lower(probe)), list.lower(probe));
+                assertEquals(Optional.ofNullable(reference.floor(probe)), linear.floor(probe));
+                assertEquals(Optional.ofNullable(reference.ceiling(probe)), linear.ceiling(probe));
+                assertEquals(Optional.ofNullable(reference.higher(probe)), linear.higher(probe));
+                assertEquals(Optional.ofNullable(reference.lower(probe)), linear.lower(probe));
+            }
+        }
+
+        private int upperBound(List<Integer> values, int value) {
+            int low = 0;
+            int high = values.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values.get(mid) <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Maintenance")
+    class IndexMaintenanceTests {
+
+        @Test
+        @DisplayName("addAll() keeps the index consistent for large and small batches")
+        void addAll_keepsIndexConsistent() {
+            List<Integer> reference = new ArrayList<>();
+            Random random = new Random(5);
+
+            for (int round = 0; round < 50; round++) {
+                // Alternate between batches that trigger a merge and ones inserted through the index
+                int batchSize = round % 2 == 0 ? 500 : 3;
+                List<Integer> batch = new ArrayList<>();
+                for (int i = 0; i < batchSize; i++) {
+                    batch.add(random.nextInt(1_000));
+                }
+                list.addAll(batch);
+                reference.addAll(batch);
+                Collections.sort(reference);
+
+                assertEquals(reference.size(), list.size());
+                for (int i = 0; i < 20; i++) {
+                    int position = random.nextInt(reference.size());
+                    int probe = random.nextInt(1_000);
+                    assertEquals(reference.get(position), list.get(position));
+                    assertEquals(reference.indexOf(probe), list.indexOf(probe));
+                }
+            }
+
+            assertEquals(reference, list.toList());
+        }
+
+        @Test
+        @DisplayName("mergeFrom() and merged() rebuild the index")
+        void merge_rebuildsIndex() {
+            SortedLinkedList<Integer> other = SortedLinkedList.ofIntegers(SearchMode.SKIP_LIST);
+            for (int i = 0; i < 1_000; i++) {
+                list.add(i * 2);
+                other.add(i * 2 + 1);
+            }
+
+            SortedLinkedList<Integer> copy = SortedLinkedList.merged(list, other);
+            list.mergeFrom(other);
+
+            assertEquals(copy, list);
+            for (int i = 0; i < 2_000; i++) {
+                assertEquals(i, list.get(i));
+                assertEquals(i, list.indexOf(i));
+                assertEquals(i, copy.get(i));
+            }
+            assertTrue(other.isEmpty());
+            assertFalse(other.contains(1));
+        }
+
+        @Test
+        @DisplayName("fromSortedStrings() builds the index bottom-up")
+        void fromSorted_buildsIndex() {
+            List<String> values = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                values.add(String.format("EU-%05d", i / 2));
+            }
+
+            SortedLinkedList<String> built = SortedLinkedList.fromSortedStrings(values.stream(), SearchMode.SKIP_LIST);
+
+            assertEquals(values, built.toList());
+            for (int i = 0; i < 2_000; i += 2) {
+                assertEquals(values.get(i), built.get(i));
+                assertEquals(i, built.indexOf(values.get(i)));
+                assertEquals(2, built.count(values.get(i)));
+            }
+            built.add("EU-00000");
+            built.removeAt(1_000);
+            assertEquals(3, built.count("EU-00000"));
+            assertEquals(2_000, built.size());
+        }
+
+        @Test
+        @DisplayName("clear() resets the index")
+        void clear_resetsIndex() {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+
+            list.clear();
+            list.add(7);
+            list.add(3);
+
+            assertEquals(List.of(3, 7), list.toList());
+            assertFalse(list.contains(50));
+        }
+
+        @Test
+        @DisplayName("iterator().remove() keeps the index consistent")
+        void iteratorRemove_keepsIndexConsistent() {
+            for (int i = 0; i < 200; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertEquals(100, list.size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i % 2 == 1, list.contains(i));
+            }
+        }
+
+        @Test
+        @DisplayName("iterator() still detects concurrent modification")
+        void iterator_detectsConcurrentModification() {
+            list.add(1);
+            list.add(2);
+
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+    }
+}
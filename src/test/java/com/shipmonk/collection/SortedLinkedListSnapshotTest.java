@@ -0,0 +1,147 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SortedLinkedList binary snapshots.
+ */
+@DisplayName("SortedLinkedList snapshots")
+class SortedLinkedListSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Integer lists survive a round trip in every search mode")
+        void integers_roundTrip() throws IOException {
+            SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers();
+            Random random = new Random(43);
+            for (int i = 0; i < 10_000; i++) {
+                list.add(random.nextInt());
+            }
+            list.add(Integer.MIN_VALUE);
+            list.add(Integer.MAX_VALUE);
+            Path file = directory.resolve("ints.snapshot");
+            list.writeSnapshot(file);
+
+            assertEquals(4 + 2 + 1 + 4 + 4 * list.size() + 4, Files.size(file));
+            for (SearchMode mode : SearchMode.values()) {
+                SortedLinkedList<Integer> loaded = SortedLinkedList.loadIntegerSnapshot(file, mode);
+                assertEquals(list, loaded);
+                assertEquals(list.get(5_000), loaded.get(5_000));
+                assertEquals(list.rankOf(0), loaded.rankOf(0));
+                loaded.add(0);
+                assertEquals(list.rankOf(0) + 1, loaded.rankOf(0));
+            }
+        }
+
+        @Test
+        @DisplayName("String lists survive a round trip")
+        void strings_roundTrip() throws IOException {
+            SortedLinkedList<String> list = SortedLinkedList.ofStrings();
+            list.add("EU-PRG-A01");
+            list.add("");
+            list.add("Über");
+            list.add("😀");
+            list.add("x".repeat(300));
+            Path file = directory.resolve("strings.snapshot");
+            list.writeSnapshot(file);
+
+            assertEquals(list, SortedLinkedList.loadStringSnapshot(file));
+        }
+
+        @Test
+        @DisplayName("unpaired surrogates survive a round trip in order")
+        void loneSurrogates_roundTrip() throws IOException {
+            SortedLinkedList<String> list = SortedLinkedList.ofStrings();
+            list.addAll(List.of("A", "z", "?", "\uD800", "x\uDC00y", "\uDBFF\uDFFF", "\uD83D\uDE00\uD83D"));
+            Path file = directory.resolve("surrogates.snapshot");
+            list.writeSnapshot(file);
+
+            SortedLinkedList<String> loaded = SortedLinkedList.loadStringSnapshot(file);
+            assertEquals(list, loaded);
+            assertEquals(1, loaded.count("\uD800"));
+            assertEquals(1, loaded.count("?"));
+        }
+
+        @Test
+        @DisplayName("empty snapshots load as either type and replace older files")
+        void emptySnapshot_loadsAsEitherType() throws IOException {
+            Path file = directory.resolve("empty.snapshot");
+            SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers();
+            list.add(1);
+            list.writeSnapshot(file);
+            list.clear();
+            list.writeSnapshot(file);
+
+            assertTrue(SortedLinkedList.loadIntegerSnapshot(file).isEmpty());
+            assertTrue(SortedLinkedList.loadStringSnapshot(file).isEmpty());
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(List.of(file), files.toList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("corrupted snapshots are rejected")
+        void corruptedSnapshot_isRejected() throws IOException {
+            SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers();
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            Path file = directory.resolve("corrupt.snapshot");
+            list.writeSnapshot(file);
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[50] ^= 1;
+            Files.write(file, bytes);
+
+            IOException e = assertThrows(IOException.class, () -> SortedLinkedList.loadIntegerSnapshot(file));
+            assertTrue(e.getMessage().contains("checksum"));
+        }
+
+        @Test
+        @DisplayName("snapshots of another type or format are rejected")
+        void wrongTypeOrFormat_isRejected() throws IOException {
+            SortedLinkedList<String> list = SortedLinkedList.ofStrings();
+            list.add("a");
+            Path file = directory.resolve("strings.snapshot");
+            list.writeSnapshot(file);
+            Path garbage = directory.resolve("garbage.snapshot");
+            Files.write(garbage, new byte[]{1, 2, 3});
+
+            assertThrows(IOException.class, () -> SortedLinkedList.loadIntegerSnapshot(file));
+            assertThrows(IOException.class, () -> SortedLinkedList.loadStringSnapshot(garbage));
+            assertThrows(NullPointerException.class, () -> list.writeSnapshot(null));
+        }
+
+        @Test
+        @DisplayName("snapshots with unsorted values are rejected")
+        void unsortedSnapshot_isRejected() throws IOException {
+            Path file = directory.resolve("unsorted.snapshot");
+            SnapshotFormat.write(file, List.of("b", "a"), 2);
+
+            IOException e = assertThrows(IOException.class, () -> SortedLinkedList.loadStringSnapshot(file));
+            assertTrue(e.getMessage().contains("corrupt"));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the splittable Spliterator of SortedLinkedList.
+ */
+@DisplayName("SortedLinkedList Spliterator")
+class SortedLinkedListSpliteratorTest {
+
+    private static SortedLinkedList<Integer> listOf(SearchMode searchMode, int size) {
+        SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers(searchMode);
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(size));
+        }
+        return list;
+    }
+
+    @Nested
+    @DisplayName("Characteristics")
+    class CharacteristicsTests {
+
+        @Test
+        @DisplayName("spliterator() reports sorted, sized and non-null characteristics")
+        void spliterator_reportsCharacteristics() {
+            Spliterator<Integer> spliterator = listOf(SearchMode.LINEAR, 10).spliterator();
+
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+            assertNull(spliterator.getComparator());
+            assertEquals(10, spliterator.getExactSizeIfKnown());
+        }
+    }
+
+    @Nested
+    @DisplayName("Splitting")
+    class SplittingTests {
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("trySplit() divides the range at the index midpoint")
+        void trySplit_dividesAtMidpoint(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = listOf(searchMode, 101);
+            Spliterator<Integer> suffix = list.spliterator();
+            Spliterator<Integer> prefix = suffix.trySplit();
+
+            assertNotNull(prefix);
+            assertEquals(50, prefix.estimateSize());
+            assertEquals(51, suffix.estimateSize());
+
+            List<Integer> values = new ArrayList<>();
+            prefix.forEachRemaining(values::add);
+            assertEquals(list.toList().subList(0, 50), values);
+            assertTrue(suffix.tryAdvance(value -> assertEquals(list.get(50), value)));
+            assertEquals(50, suffix.estimateSize());
+        }
+
+        @Test
+        @DisplayName("trySplit() returns null for fewer than two elements")
+        void trySplit_returnsNullForSingleElement() {
+            SortedLinkedList<Integer> list = SortedLinkedList.ofIntegers();
+            assertNull(list.spliterator().trySplit());
+
+            list.add(1);
+            assertNull(list.spliterator().trySplit());
+        }
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("recursive splits cover every element exactly once")
+        void recursiveSplits_coverEveryElement(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = listOf(searchMode, 1_000);
+            List<Integer> values = new ArrayList<>();
+            collect(list.spliterator(), values);
+
+            assertEquals(list.toList(), values);
+        }
+
+        private void collect(Spliterator<Integer> spliterator, List<Integer> values) {
+            Spliterator<Integer> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                spliterator.forEachRemaining(values::add);
+                return;
+            }
+            collect(prefix, values);
+            collect(spliterator, values);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Streams")
+    class ParallelStreamTests {
+
+        @ParameterizedTest
+        @EnumSource(SearchMode.class)
+        @DisplayName("parallelStream() produces the same results as stream()")
+        void parallelStream_matchesSequentialStream(SearchMode searchMode) {
+            SortedLinkedList<Integer> list = listOf(searchMode, 50_000);
+
+            assertTrue(list.parallelStream().isParallel());
+            assertEquals(list.toList(), list.parallelStream().collect(Collectors.toList()));
+            assertEquals(
+                    list.stream().mapToLong(Integer::longValue).sum(),
+                    list.parallelStream().mapToLong(Integer::longValue).sum()
+            );
+            assertEquals(list.size(), list.parallelStream().count());
+        }
+
+        @Test
+        @DisplayName("parallelStream() is available through the SortedList interface")
+        void parallelStream_worksForOtherImplementations() {
+            SortedList<Integer> list = UnrolledSortedLinkedList.ofIntegers();
+            IntStream.range(0, 1_000).forEach(list::add);
+
+            assertEquals(499_500, list.parallelStream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fail-Fast Behavior")
+    class FailFastTests {
+
+        @Test
+        @DisplayName("traversal throws ConcurrentModificationException after modification")
+        void traversal_throwsAfterModification() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 10);
+            Spliterator<Integer> spliterator = list.spliterator();
+            list.add(5);
+
+            assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(value -> { }));
+            assertThrows(ConcurrentModificationException.class, spliterator::trySplit);
+        }
+
+        @Test
+        @DisplayName("stream() throws when the list is modified by the pipeline")
+        void stream_throwsWhenModifiedDuringTraversal() {
+            SortedLinkedList<Integer> list = listOf(SearchMode.LINEAR, 10);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> list.stream().forEach(list::add));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the StampedLock-guarded StampedSortedLinkedList.
+ */
+@DisplayName("StampedSortedLinkedList")
+class StampedSortedLinkedListTest {
+
+    private StampedSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = StampedSortedLinkedList.ofIntegers();
+    }
+
+    @Nested
+    @DisplayName("Factory Methods")
+    class FactoryTests {
+
+        @Test
+        @DisplayName("factories create empty lists")
+        void factories_createEmptyLists() {
+            assertTrue(list.isEmpty());
+            assertTrue(StampedSortedLinkedList.ofStrings().isEmpty());
+            assertTrue(StampedSortedLinkedList.ofIntegers(SearchMode.SKIP_LIST).isEmpty());
+            assertTrue(StampedSortedLinkedList.ofStrings(SearchMode.SKIP_LIST).isEmpty());
+        }
+
+        @Test
+        @DisplayName("factories reject FINGER and null search modes")
+        void factories_rejectFingerAndNull() {
+            assertThrows(IllegalArgumentException.class, () -> StampedSortedLinkedList.ofIntegers(SearchMode.FINGER));
+            assertThrows(IllegalArgumentException.class, () -> StampedSortedLinkedList.ofStrings(SearchMode.FINGER));
+            assertThrows(NullPointerException.class, () -> StampedSortedLinkedList.ofIntegers(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Single-Threaded Semantics")
+    class SingleThreadedTests {
+
+        @Test
+        @DisplayName("mutations and queries delegate to the underlying list")
+        void operations_delegate() {
+            list.addAll(List.of(5, 1, 3));
+            list.add(3);
+            list.addAll(new Integer[]{7, 0});
+
+            assertEquals(List.of(0, 1, 3, 3, 5, 7), list.toList());
+            assertEquals(6, list.size());
+            assertEquals(3, list.get(2));
+            assertEquals(2, list.indexOf(3));
+            assertEquals(4, list.rankOf(3));
+            assertEquals(2, list.count(3));
+            assertTrue(list.contains(5));
+            assertEquals(0, list.first().orElseThrow());
+            assertEquals(7, list.last().orElseThrow());
+            assertEquals("[0, 1, 3, 3, 5, 7]", list.toString());
+
+            assertTrue(list.remove(5));
+            assertEquals(2, list.removeAll(3));
+            assertEquals(0, list.removeAt(0));
+            assertEquals(List.of(1, 7), list.toList());
+
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+
+        @Test
+        @DisplayName("exceptions from queries propagate")
+        void queries_propagateExceptions() {
+            list.add(1);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(-1));
+            assertThrows(NullPointerException.class, () -> list.contains(null));
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+
+        @Test
+        @DisplayName("iterator() works on a snapshot and rejects remove()")
+        void iterator_worksOnSnapshot() {
+            list.add(1);
+            list.add(2);
+
+            Iterator<Integer> iterator = list.iterator();
+            list.add(3);
+
+            List<Integer> values = new ArrayList<>();
+            iterator.forEachRemaining(values::add);
+            assertEquals(List.of(1, 2), values);
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(6, list.stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Threaded Behavior")
+    class MultiThreadedTests {
+
+        @Test
+        @DisplayName("readers observe consistent results while writers mutate")
+        void readersAndWriters_stayConsistent() throws Exception {
+            StampedSortedLinkedList<Integer> shared = StampedSortedLinkedList.ofIntegers(SearchMode.SKIP_LIST);
+            for (int i = 0; i < 1_000; i += 2) {
+                shared.add(i);
+            }
+
+            int writers = 2;
+            int readers = 4;
+            int perWriter = 2_000;
+            AtomicBoolean done = new AtomicBoolean();
+            ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> writerFutures = new ArrayList<>();
+                List<Future<?>> readerFutures = new ArrayList<>();
+                for (int w = 0; w < writers; w++) {
+                    int offset = w;
+                    writerFutures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < perWriter; i++) {
+                            int value = 2 * (i % 500) + 1;
+                            shared.add(value);
+                            assertTrue(shared.remove(value));
+                        }
+                        shared.add(1_000 + offset);
+                        return null;
+                    }));
+                }
+                for (int r = 0; r < readers; r++) {
+                    readerFutures.add(executor.submit(() -> {
+                        start.await();
+                        while (!done.get()) {
+                            // Even values are never touched by writers
+                            assertTrue(shared.contains(500));
+                            assertEquals(0, shared.first().orElseThrow());
+                            int size = shared.size();
+                            assertTrue(size >= 500 && size <= 500 + 2 * writers);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : writerFutures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+                done.set(true);
+                for (Future<?> future : readerFutures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                done.set(true);
+                executor.shutdownNow();
+            }
+
+            assertEquals(500 + writers, shared.size());
+            assertEquals(1_001, shared.last().orElseThrow());
+        }
+    }
+}
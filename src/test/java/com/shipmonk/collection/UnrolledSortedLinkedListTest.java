@@ -0,0 +1,236 @@
+package com.shipmonk.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for UnrolledSortedLinkedList.
+ */
+@DisplayName("UnrolledSortedLinkedList")
+class UnrolledSortedLinkedListTest {
+
+    private UnrolledSortedLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = UnrolledSortedLinkedList.ofIntegers(UnrolledSortedLinkedList.MIN_CHUNK_CAPACITY);
+    }
+
+    @Nested
+    @DisplayName("Creation and Factory Methods")
+    class FactoryMethodTests {
+
+        @Test
+        @DisplayName("factories create empty lists")
+        void factories_createEmptyLists() {
+            assertTrue(UnrolledSortedLinkedList.ofIntegers().isEmpty());
+            assertTrue(UnrolledSortedLinkedList.ofStrings().isEmpty());
+            assertTrue(list.first().isEmpty());
+            assertTrue(list.last().isEmpty());
+            assertEquals("[]", list.toString());
+        }
+
+        @Test
+        @DisplayName("factories reject too small chunk capacity")
+        void factories_rejectSmallCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> UnrolledSortedLinkedList.ofIntegers(3));
+            assertThrows(IllegalArgumentException.class, () -> UnrolledSortedLinkedList.ofStrings(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sorted List Semantics")
+    class SemanticsTests {
+
+        @Test
+        @DisplayName("add() maintains sorted order across chunk splits")
+        void add_maintainsOrderAcrossSplits() {
+            for (int i = 100; i >= 1; i--) {
+                list.add(i);
+            }
+
+            assertEquals(100, list.size());
+            assertEquals(1, list.first().orElseThrow());
+            assertEquals(100, list.last().orElseThrow());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("add() places duplicates after existing equal elements")
+        void add_placesDuplicatesAfterEqualElements() {
+            UnrolledSortedLinkedList<String> strings = UnrolledSortedLinkedList.ofStrings(4);
+            List<String> inserted = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                String value = new String("dup");
+                inserted.add(value);
+                strings.add(value);
+                strings.add("a" + i);
+            }
+
+            List<String> values = strings.toList();
+            for (int i = 0; i < 10; i++) {
+                assertSame(inserted.get(i), values.get(10 + i));
+            }
+        }
+
+        @Test
+        @DisplayName("removeAll() removes duplicates spanning several chunks")
+        void removeAll_removesDuplicatesSpanningChunks() {
+            list.add(1);
+            for (int i = 0; i < 20; i++) {
+                list.add(5);
+            }
+            list.add(9);
+
+            assertEquals(20, list.count(5));
+            assertEquals(20, list.removeAll(5));
+            assertEquals(List.of(1, 9), list.toList());
+            assertEquals("[1, 9]", list.toString());
+        }
+
+        @Test
+        @DisplayName("operations reject null values")
+        void operations_rejectNull() {
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(NullPointerException.class, () -> list.remove(null));
+            assertThrows(NullPointerException.class, () -> list.contains(null));
+            assertThrows(NullPointerException.class, () -> list.count(null));
+        }
+
+        @Test
+        @DisplayName("random operations produce the same results as SortedLinkedList")
+        void randomOperations_matchSortedLinkedList() {
+            SortedLinkedList<Integer> reference = SortedLinkedList.ofIntegers();
+            Random random = new Random(11);
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(200);
+                switch (random.nextInt(6)) {
+                    case 0, 1 -> {
+                        list.add(value);
+                        reference.add(value);
+                    }
+                    case 2 -> assertEquals(reference.remove(value), list.remove(value));
+                    case 3 -> assertEquals(reference.removeAll(value), list.removeAll(value));
+                    case 4 -> {
+                        if (!reference.isEmpty()) {
+                            int index = random.nextInt(reference.size());
+                            assertEquals(reference.removeAt(index), list.removeAt(index));
+                        }
+                    }
+                    default -> {
+                        assertEquals(reference.contains(value), list.contains(value));
+                        assertEquals(reference.count(value), list.count(value));
+                        assertEquals(reference.indexOf(value), list.indexOf(value));
+                        assertEquals(reference.rankOf(value), list.rankOf(value));
+                    }
+                }
+            }
+
+            assertEquals(reference.toList(), list.toList());
+            assertEquals(reference.hashCode(), list.hashCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Iterator Behavior")
+    class IteratorTests {
+
+        @Test
+        @DisplayName("iterator() traverses all chunks in order")
+        void iterator_traversesInOrder() {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                list.add(49 - i);
+                expected.add(i);
+            }
+
+            List<Integer> actual = new ArrayList<>();
+            list.forEach(actual::add);
+
+            assertEquals(expected, actual);
+            assertEquals(expected, list.stream().toList());
+        }
+
+        @Test
+        @DisplayName("iterator().remove() removes across chunk boundaries")
+        void iteratorRemove_removesAcrossChunks() {
+            for (int i = 0; i < 40; i++) {
+                list.add(i);
+            }
+
+            Iterator<Integer> iterator = list.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 3 != 0) {
+                    iterator.remove();
+                }
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i += 3) {
+                expected.add(i);
+            }
+            assertEquals(expected, list.toList());
+            assertEquals(expected.size(), list.size());
+        }
+
+        @Test
+        @DisplayName("iterator() is fail-fast and validates state")
+        void iterator_isFailFast() {
+            list.add(1);
+            list.add(2);
+
+            Iterator<Integer> iterator = list.iterator();
+            assertThrows(IllegalStateException.class, iterator::remove);
+            iterator.next();
+            list.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("iterator() throws NoSuchElementException when exhausted")
+        void iterator_throwsWhenExhausted() {
+            list.add(1);
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Nested
+    @DisplayName("Equals and HashCode")
+    class EqualsHashCodeTests {
+
+        @Test
+        @DisplayName("lists with same elements but different chunk sizes are equal")
+        void sameElements_areEqual() {
+            UnrolledSortedLinkedList<Integer> other = UnrolledSortedLinkedList.ofIntegers();
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                values.add(i);
+            }
+            Collections.shuffle(values, new Random(3));
+            values.forEach(list::add);
+            values.forEach(other::add);
+
+            assertEquals(list, other);
+            assertEquals(list.hashCode(), other.hashCode());
+        }
+    }
+}